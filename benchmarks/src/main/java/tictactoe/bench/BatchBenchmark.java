@@ -0,0 +1,84 @@
+package tictactoe.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk position classification: TicTacToeBatch.classify over a batch of positions against calling
+ * TicTacToeBoard.winner on each one in a loop. Scores are per position, so the two are directly comparable.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark
+{
+    private static final int BATCH = 1 << 16;
+    private static final int CELLS = 9;
+
+    private final int[] positions = new int[BATCH];
+    private final byte[] results = new byte[BATCH];
+
+    /**
+     * Fills the batch with positions from random games stopped after a random number of moves, so wins, ties and
+     * unfinished games are mixed the way a log of real games mixes them.
+     */
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] free = new int[CELLS];
+        for (int i = 0; i < BATCH; i++) {
+            for (int c = 0; c < CELLS; c++) free[c] = c;
+            int count = CELLS;
+            int moves = random.nextInt(CELLS + 1);
+            int position = 0;
+            int player = Game.X;
+            while (moves-- > 0) {
+                int pick = random.nextInt(count);
+                int cell = free[pick];
+                free[pick] = free[--count];
+                position = Game.play(position, cell, player);
+                if (Game.isWinningMove(position, cell)) break;
+                player ^= Game.X | Game.O;
+            }
+            positions[i] = position;
+        }
+    }
+
+    /**
+     * TicTacToeBoard.winner called once per position.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public byte[] scalarLoop() {
+        for (int i = 0; i < BATCH; i++) results[i] = (byte) Game.winner(positions[i]);
+        return results;
+    }
+
+    /**
+     * The whole batch classified in one TicTacToeBatch call.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public byte[] batch() {
+        Game.classify(positions, 0, BATCH, results, 0);
+        return results;
+    }
+}
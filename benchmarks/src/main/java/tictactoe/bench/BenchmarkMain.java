@@ -0,0 +1,31 @@
+package tictactoe.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler always on, so every result comes with gc.alloc.rate.norm (bytes allocated
+ * per operation) next to its timing. Accepts the usual JMH command line, e.g. "java -jar benchmarks.jar Logic -f 2".
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class BenchmarkMain
+{
+    /**
+     * Entry point for benchmarks.jar.
+     *
+     * @param args JMH command line options.
+     * @throws Exception if the options are invalid or a benchmark fails.
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,163 @@
+package tictactoe.bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Handles onto the game classes. The game lives in the default package, which Java code in a named package cannot
+ * refer to, while JMH refuses benchmarks in the default package. Constant method handles bridge the two; the JIT
+ * inlines them like direct calls, so they add nothing measurable to the benchmarks.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+final class Game
+{
+    private static final MethodHandle NEW_LOGIC;          // () -> TicTacToeLogic
+    private static final MethodHandle MAKE_MOVE;          // (logic, row, col) -> void
+    private static final MethodHandle HAVE_WINNER;        // (logic, row, col) -> boolean
+    private static final MethodHandle CLEAR_BOARD;        // (logic) -> void
+    private static final MethodHandle GET_WINNER;         // (logic) -> String
+    private static final MethodHandle UPDATE_LEADERBOARD; // (logic, winner) -> void
+    private static final MethodHandle GET_LEADERBOARD;    // (logic) -> int[]
+
+    private static final MethodHandle PLAY;               // (position, cell, player) -> position
+    private static final MethodHandle IS_WINNING_MOVE;    // (position, cell) -> boolean
+    private static final MethodHandle WINNER;             // (position) -> EMPTY, X, O or TIE
+
+    private static final MethodHandle CLASSIFY;           // (positions, from, count, results, offset) -> void
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> logic = Class.forName("TicTacToeLogic");
+            Class<?> board = Class.forName("TicTacToeBoard");
+            MethodType onLogic = MethodType.methodType(void.class, Object.class);
+
+            NEW_LOGIC = lookup.findConstructor(logic, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+            MAKE_MOVE = lookup.findVirtual(logic, "makeMove", MethodType.methodType(void.class, int.class, int.class))
+                    .asType(onLogic.appendParameterTypes(int.class, int.class));
+            HAVE_WINNER = lookup.findVirtual(logic, "haveWinner", MethodType.methodType(boolean.class, int.class, int.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class, int.class, int.class));
+            CLEAR_BOARD = lookup.findVirtual(logic, "clearBoard", MethodType.methodType(void.class))
+                    .asType(onLogic);
+            GET_WINNER = lookup.findVirtual(logic, "getWinner", MethodType.methodType(String.class))
+                    .asType(MethodType.methodType(String.class, Object.class));
+            UPDATE_LEADERBOARD = lookup.findVirtual(logic, "updateLeaderboard", MethodType.methodType(void.class, String.class))
+                    .asType(onLogic.appendParameterTypes(String.class));
+            GET_LEADERBOARD = lookup.findVirtual(logic, "getLeaderboard", MethodType.methodType(int[].class))
+                    .asType(MethodType.methodType(int[].class, Object.class));
+
+            PLAY = lookup.findStatic(board, "play", MethodType.methodType(int.class, int.class, int.class, int.class));
+            IS_WINNING_MOVE = lookup.findStatic(board, "isWinningMove", MethodType.methodType(boolean.class, int.class, int.class));
+            WINNER = lookup.findStatic(board, "winner", MethodType.methodType(int.class, int.class));
+
+            CLASSIFY = lookup.findStatic(Class.forName("TicTacToeBatch"), "classify",
+                    MethodType.methodType(void.class, int[].class, int.class, int.class, byte[].class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Square values, mirroring TicTacToeBoard
+    static final int X = 1;
+    static final int O = 2;
+
+    private Game() {}
+
+    static Object newLogic() {
+        try {
+            return (Object) NEW_LOGIC.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void makeMove(Object logic, int row, int col) {
+        try {
+            MAKE_MOVE.invokeExact(logic, row, col);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean haveWinner(Object logic, int row, int col) {
+        try {
+            return (boolean) HAVE_WINNER.invokeExact(logic, row, col);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void clearBoard(Object logic) {
+        try {
+            CLEAR_BOARD.invokeExact(logic);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static String getWinner(Object logic) {
+        try {
+            return (String) GET_WINNER.invokeExact(logic);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void updateLeaderboard(Object logic, String winner) {
+        try {
+            UPDATE_LEADERBOARD.invokeExact(logic, winner);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static int[] getLeaderboard(Object logic) {
+        try {
+            return (int[]) GET_LEADERBOARD.invokeExact(logic);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static int play(int position, int cell, int player) {
+        try {
+            return (int) PLAY.invokeExact(position, cell, player);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean isWinningMove(int position, int cell) {
+        try {
+            return (boolean) IS_WINNING_MOVE.invokeExact(position, cell);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static int winner(int position) {
+        try {
+            return (int) WINNER.invokeExact(position);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void classify(int[] positions, int from, int count, byte[] results, int offset) {
+        try {
+            CLASSIFY.invokeExact(positions, from, count, results, offset);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) throw (RuntimeException) t;
+        if (t instanceof Error) throw (Error) t;
+        throw new IllegalStateException(t);
+    }
+}
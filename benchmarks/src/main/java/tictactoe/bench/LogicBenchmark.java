@@ -0,0 +1,94 @@
+package tictactoe.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the TicTacToeLogic entry points the UI calls on every click: haveWinner, makeMove, clearBoard and
+ * the leaderboard. Run through BenchmarkMain to also get gc.alloc.rate.norm (bytes allocated per operation).
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogicBenchmark
+{
+    // A full game that ends in a tie, as (row, col) pairs:  X O X / X O O / O X X
+    private static final int[] TIE_GAME = {0, 0, 0, 1, 0, 2, 1, 1, 1, 0, 1, 2, 2, 1, 2, 0, 2, 2};
+    private static final int TIE_GAME_MOVES = 9;
+
+    private Object logic;      // TicTacToeLogic for the makeMove and clearBoard benchmarks
+    private Object midGame;    // TicTacToeLogic left part way through a game, for haveWinner
+    private int cell;          // square checked by the next haveWinner call
+
+    @Setup
+    public void setup() {
+        logic = Game.newLogic();
+
+        // X: (0,0) (1,1)   O: (0,1) (2,2) -- no winner yet, so every check scans its whole line set
+        midGame = Game.newLogic();
+        Game.makeMove(midGame, 0, 0);
+        Game.makeMove(midGame, 0, 1);
+        Game.makeMove(midGame, 1, 1);
+        Game.makeMove(midGame, 2, 2);
+    }
+
+    /**
+     * Win check for each square in turn, occupied and empty.
+     */
+    @Benchmark
+    public boolean haveWinner() {
+        int c = cell;
+        cell = c == 8 ? 0 : c + 1;
+        return Game.haveWinner(midGame, c / 3, c % 3);
+    }
+
+    /**
+     * One move, averaged over a complete nine move game (including the tie and leaderboard update at the end)
+     * followed by clearBoard.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TIE_GAME_MOVES)
+    public String makeMove() {
+        for (int i = 0; i < TIE_GAME.length; i += 2) {
+            Game.makeMove(logic, TIE_GAME[i], TIE_GAME[i + 1]);
+        }
+        String winner = Game.getWinner(logic);
+        Game.clearBoard(logic);
+        return winner;
+    }
+
+    /**
+     * Resetting the board for a new game.
+     */
+    @Benchmark
+    public Object clearBoard() {
+        Game.clearBoard(logic);
+        return logic;
+    }
+
+    /**
+     * Recording a result and reading the scores back, as the UI does after every game.
+     */
+    @Benchmark
+    public int[] leaderboard() {
+        Game.updateLeaderboard(logic, "X");
+        return Game.getLeaderboard(logic);
+    }
+}
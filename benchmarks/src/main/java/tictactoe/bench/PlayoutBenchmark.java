@@ -0,0 +1,85 @@
+package tictactoe.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random playout throughput: complete games with uniformly random legal moves, both through TicTacToeLogic (what
+ * a simulation built on the UI's logic would pay) and directly on packed TicTacToeBoard positions.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayoutBenchmark
+{
+    private static final int CELLS = 9;
+
+    private Object logic;
+    private SplittableRandom random;
+    private final int[] free = new int[CELLS];
+
+    @Setup
+    public void setup() {
+        logic = Game.newLogic();
+        random = new SplittableRandom(42);
+    }
+
+    /**
+     * One random game played through TicTacToeLogic.makeMove, followed by clearBoard.
+     */
+    @Benchmark
+    public String logicPlayout() {
+        Game.clearBoard(logic);
+        int count = fillFree();
+        while (Game.getWinner(logic).equals(" ")) {
+            int pick = random.nextInt(count);
+            int cell = free[pick];
+            free[pick] = free[--count];
+            Game.makeMove(logic, cell / 3, cell % 3);
+        }
+        return Game.getWinner(logic);
+    }
+
+    /**
+     * One random game on packed TicTacToeBoard positions.
+     *
+     * @return The final position.
+     */
+    @Benchmark
+    public int enginePlayout() {
+        int position = 0;
+        int player = Game.X;
+        int count = fillFree();
+        while (count > 0) {
+            int pick = random.nextInt(count);
+            int cell = free[pick];
+            free[pick] = free[--count];
+            position = Game.play(position, cell, player);
+            if (Game.isWinningMove(position, cell)) break;
+            player ^= Game.X | Game.O;
+        }
+        return position;
+    }
+
+    private int fillFree() {
+        for (int i = 0; i < CELLS; i++) free[i] = i;
+        return CELLS;
+    }
+}
@@ -0,0 +1,171 @@
+import java.util.Arrays;
+
+/**
+ * Perfect-play computer opponent. Every position reachable from the empty board is solved once, when the class is
+ * loaded, with a negamax search using alpha-beta pruning over a transposition table. Positions are keyed by the
+ * base-3 encoding of their canonical form (see TicTacToeSymmetry), so symmetric positions share one entry and looking
+ * up the best move afterwards is a few array reads that never allocate.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public final class TicTacToeAI
+{
+    private static final int INDEX_SIZE = 19683; // 3^9 board encodings
+    private static final int NO_MOVE = -1;
+
+    // Transposition table bound types
+    private static final byte NONE = 0;
+    private static final byte EXACT = 1;
+    private static final byte LOWER = 2;
+    private static final byte UPPER = 3;
+
+    // BASE3[mask] is the base-3 value with a 1 in every digit set in the 9-bit mask
+    private static final int[] BASE3 = new int[1 << TicTacToeBoard.CELLS];
+
+    // Solved table: best move and score for the player to move, indexed by canonical board encoding
+    private static final byte[] BEST_MOVE = new byte[INDEX_SIZE];
+    private static final byte[] SCORE = new byte[INDEX_SIZE];
+
+    // Transposition table used while solving
+    private static final byte[] TT_VALUE = new byte[INDEX_SIZE];
+    private static final byte[] TT_FLAG = new byte[INDEX_SIZE];
+
+    static {
+        for (int mask = 1; mask < BASE3.length; mask++) {
+            int low = Integer.numberOfTrailingZeros(mask);
+            BASE3[mask] = BASE3[mask & (mask - 1)] + pow3(low);
+        }
+        Arrays.fill(BEST_MOVE, (byte) NO_MOVE);
+        solveAll(TicTacToeBoard.EMPTY_POSITION);
+    }
+
+    private TicTacToeAI() {}
+
+    /**
+     * Returns the best move for the player to move.
+     *
+     * @param position The packed TicTacToeBoard position.
+     * @return The square index of the best move, or -1 if the game is already over.
+     */
+    public static int bestMove(int position) {
+        int key = TicTacToeSymmetry.canonicalize(position);
+        int move = BEST_MOVE[index(TicTacToeSymmetry.position(key))];
+        return move == NO_MOVE ? NO_MOVE : TicTacToeSymmetry.unmapCell(TicTacToeSymmetry.transform(key), move);
+    }
+
+    /**
+     * Returns the game-theoretic score of a position for the player to move. A positive score is a forced win,
+     * a negative score a forced loss and 0 a draw; faster wins score higher.
+     *
+     * @param position The packed TicTacToeBoard position.
+     * @return The score under perfect play.
+     */
+    public static int score(int position) {
+        return SCORE[index(TicTacToeSymmetry.canonical(position))];
+    }
+
+    /**
+     * Computes the base-3 board encoding of a position (0 = empty, 1 = X, 2 = O in each digit).
+     *
+     * @param position The packed TicTacToeBoard position.
+     * @return The encoding, between 0 and 3^9 - 1.
+     */
+    public static int index(int position) {
+        return BASE3[TicTacToeBoard.xMask(position)] + 2 * BASE3[TicTacToeBoard.oMask(position)];
+    }
+
+    /**
+     * Solves the given canonical position and every position reachable from it, filling the best move table.
+     *
+     * @param position The packed canonical position to start from.
+     */
+    private static void solveAll(int position) {
+        int index = index(position);
+        if (BEST_MOVE[index] != NO_MOVE) return; // already solved through another move order
+
+        int player = TicTacToeBoard.sideToMove(position);
+        int free = ~TicTacToeBoard.occupied(position) & TicTacToeBoard.FULL;
+        int alpha = -Byte.MAX_VALUE;
+        int best = NO_MOVE;
+
+        // Root search with a full window so the score and move are exact
+        for (int moves = free; moves != 0; moves &= moves - 1) {
+            int cell = Integer.numberOfTrailingZeros(moves);
+            int next = TicTacToeBoard.play(position, cell, player);
+            int score = TicTacToeBoard.isWinningMove(next, cell) ? winScore(next)
+                    : -negamax(next, TicTacToeBoard.opponent(player), -Byte.MAX_VALUE, -alpha);
+            if (score > alpha) {
+                alpha = score;
+                best = cell;
+            }
+        }
+        BEST_MOVE[index] = (byte) best;
+        SCORE[index] = (byte) alpha;
+
+        // Continue into every child that is not already decided
+        for (int moves = free; moves != 0; moves &= moves - 1) {
+            int cell = Integer.numberOfTrailingZeros(moves);
+            int next = TicTacToeBoard.play(position, cell, player);
+            if (!TicTacToeBoard.isWinningMove(next, cell) && TicTacToeBoard.freeSquares(next) > 0) {
+                solveAll(TicTacToeSymmetry.canonical(next));
+            }
+        }
+    }
+
+    /**
+     * Negamax search with alpha-beta pruning. The position must not be decided yet.
+     *
+     * @param position The packed position.
+     * @param player The player to move.
+     * @param alpha Lower bound of the search window.
+     * @param beta Upper bound of the search window.
+     * @return The score for the player to move, within the usual fail-soft bounds.
+     */
+    private static int negamax(int position, int player, int alpha, int beta) {
+        int free = ~TicTacToeBoard.occupied(position) & TicTacToeBoard.FULL;
+        if (free == 0) return 0; // board full without a line, draw
+
+        int index = index(TicTacToeSymmetry.canonical(position));
+        int alphaOrig = alpha;
+        byte flag = TT_FLAG[index];
+        if (flag != NONE) {
+            int value = TT_VALUE[index];
+            if (flag == EXACT) return value;
+            if (flag == LOWER) alpha = Math.max(alpha, value);
+            else beta = Math.min(beta, value);
+            if (alpha >= beta) return value;
+        }
+
+        int best = -Byte.MAX_VALUE;
+        for (int moves = free; moves != 0; moves &= moves - 1) {
+            int cell = Integer.numberOfTrailingZeros(moves);
+            int next = TicTacToeBoard.play(position, cell, player);
+            int score = TicTacToeBoard.isWinningMove(next, cell) ? winScore(next)
+                    : -negamax(next, TicTacToeBoard.opponent(player), -beta, -alpha);
+            if (score > best) {
+                best = score;
+                if (best > alpha) alpha = best;
+                if (alpha >= beta) break; // cut-off, opponent will avoid this line
+            }
+        }
+
+        // Store with the bound type the window allows
+        TT_VALUE[index] = (byte) best;
+        TT_FLAG[index] = best <= alphaOrig ? UPPER : best >= beta ? LOWER : EXACT;
+        return best;
+    }
+
+    /**
+     * Score of a win reached in the given position; wins that leave more squares free score higher.
+     */
+    private static int winScore(int position) {
+        return 1 + TicTacToeBoard.freeSquares(position);
+    }
+
+    private static int pow3(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) result *= 3;
+        return result;
+    }
+}
@@ -0,0 +1,248 @@
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import javax.swing.SwingUtilities;
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads and decodes the game's images, animations, sounds and font in parallel on background threads, so the UI can
+ * build its frame at the same time instead of loading everything one after another on the EDT. Square icons are
+ * decoded once and pre-scaled into images compatible with the screen, so painting them never has to convert or
+ * rescale. Getters wait for their own asset only; a missing or broken asset is reported and comes back as null.
+ * whenLoaded() hands the assets to the EDT once they are all ready, so the window never waits on them.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeAssets
+{
+    /**
+     * One asset's loading step.
+     */
+    private interface Loader<T>
+    {
+        T load() throws Exception;
+    }
+
+    private static final String[] ICONS = {"X", "O", " "};
+    private static final String[] ICON_FILES = {"img/X.png", "img/O.png", "img/blank.png"};
+    private static final String[] ANIMATIONS = {"X", "O", "T"};
+    private static final String[] ANIMATION_FILES = {"gif/Xwin.gif", "gif/Owin.gif", "gif/tie.gif"};
+    private static final String FONT_FILE = "font/junegull.regular.otf";
+    private static final float FONT_SIZE = 30f;
+
+    // Class instance variables
+    private final long start = System.nanoTime();
+    private final Map<String, Future<ImageIcon>> icons = new HashMap<>();
+    private final Map<String, Future<ImageIcon>> animations = new HashMap<>();
+    private final Future<TicTacToeMixer> mixer;
+    private final Future<Font> font;
+    private final long[] phaseNanos = new long[4]; // icons, animations, sounds, font
+    private long readyNanos = -1;
+
+    /**
+     * Starts loading every asset in the background and returns straight away.
+     *
+     * @param iconSize Width and height, in pixels, to pre-scale the square icons to.
+     */
+    public TicTacToeAssets(int iconSize) {
+        GraphicsConfiguration screen = GraphicsEnvironment.isHeadless() ? null
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+
+        ExecutorService loader = Executors.newFixedThreadPool(Math.min(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < ICONS.length; i++) {
+            final String file = ICON_FILES[i];
+            icons.put(ICONS[i], loader.submit(() -> timed(0, () -> loadIcon(file, iconSize, screen))));
+        }
+        for (int i = 0; i < ANIMATIONS.length; i++) {
+            final String file = ANIMATION_FILES[i];
+            animations.put(ANIMATIONS[i], loader.submit(() -> timed(1, () -> loadAnimation(file))));
+        }
+        mixer = loader.submit(() -> timed(2, () -> new TicTacToeMixer(Boolean.getBoolean("tictactoe.silent"))));
+        font = loader.submit(() -> timed(3, () -> loadFont(FONT_FILE)));
+        loader.shutdown(); // threads exit once the queued loads are done
+    }
+
+    /**
+     * Returns a pre-scaled square icon, waiting for it if it is still loading.
+     *
+     * @param symbol "X", "O", or anything else for the blank square.
+     * @return The icon, or null if it could not be loaded.
+     */
+    public ImageIcon getIcon(String symbol) {
+        return await(icons.get(symbol.equals("X") || symbol.equals("O") ? symbol : " "));
+    }
+
+    /**
+     * Returns a win or tie animation, waiting for it if it is still loading.
+     *
+     * @param winner "X", "O", or anything else for the tie animation.
+     * @return The animation, or null if it could not be loaded.
+     */
+    public ImageIcon getAnimation(String winner) {
+        return await(animations.get(winner.equals("X") || winner.equals("O") ? winner : "T"));
+    }
+
+    /**
+     * Returns the sound mixer with the effects decoded, waiting for it if it is still loading. Sound is off when the
+     * tictactoe.silent system property is true.
+     *
+     * @return The mixer, or null if it could not be created.
+     */
+    public TicTacToeMixer getMixer() {
+        return await(mixer);
+    }
+
+    /**
+     * Returns the status bar font, waiting for it if it is still loading.
+     *
+     * @return The font at its display size, or null if it could not be loaded.
+     */
+    public Font getFont() {
+        return await(font);
+    }
+
+    /**
+     * Waits for every asset to finish loading.
+     *
+     * @return This, for chaining.
+     */
+    public TicTacToeAssets awaitAll() {
+        for (String symbol : ICONS) getIcon(symbol);
+        for (String winner : ANIMATIONS) getAnimation(winner);
+        getMixer();
+        getFont();
+        synchronized (this) {
+            if (readyNanos < 0) readyNanos = System.nanoTime() - start;
+        }
+        return this;
+    }
+
+    /**
+     * Runs a callback on the EDT once every asset has finished loading. The wait happens on a background thread, so
+     * this returns straight away.
+     *
+     * @param callback Called on the EDT; the getters return without waiting from then on.
+     */
+    public void whenLoaded(Runnable callback) {
+        Thread waiter = new Thread(() -> {
+            awaitAll();
+            SwingUtilities.invokeLater(callback);
+        }, "asset-waiter");
+        waiter.setDaemon(true);
+        waiter.start();
+    }
+
+    /**
+     * Returns a one-line report of how long each loading phase took. Phases overlap, so they add up to more than
+     * the wall clock time. Call after awaitAll().
+     *
+     * @return The timing report.
+     */
+    public synchronized String getTimings() {
+        return String.format("icons %.1f ms | animations %.1f ms | sounds %.1f ms | font %.1f ms | all ready after %.1f ms",
+                phaseNanos[0] / 1e6, phaseNanos[1] / 1e6, phaseNanos[2] / 1e6, phaseNanos[3] / 1e6, readyNanos / 1e6);
+    }
+
+    /**
+     * Runs a load and adds its time to a phase. A failed load is reported here, once, and gives null.
+     */
+    private <T> T timed(int phase, Loader<T> load) {
+        long begin = System.nanoTime();
+        try {
+            return load.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            long elapsed = System.nanoTime() - begin;
+            synchronized (this) {
+                phaseNanos[phase] += elapsed;
+            }
+        }
+    }
+
+    private static <T> T await(Future<T> asset) {
+        try {
+            return asset.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            e.getCause().printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Helper function for loading resources.
+     * Loads resources as URLs
+     */
+    private static URL resource(String path) throws IOException {
+        URL resource = TicTacToeAssets.class.getClassLoader().getResource(path);
+        if (resource == null) throw new IOException("Resource not found: " + path);
+        return resource;
+    }
+
+    /**
+     * Decodes a PNG and scales it once into an image in the screen's native format. Large reductions are done in
+     * halving steps so bicubic filtering keeps the quality of the old area-averaging scale.
+     */
+    private static ImageIcon loadIcon(String path, int size, GraphicsConfiguration screen) throws IOException {
+        BufferedImage image = ImageIO.read(resource(path));
+        if (image == null) throw new IOException("Unreadable image: " + path);
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(size, width / 2);
+            height = Math.max(size, height / 2);
+            if (image.getWidth() < size * 2) width = height = size; // final (or upscaling) step straight to size
+            image = scale(image, width, height, screen);
+        } while (width != size || height != size);
+        return new ImageIcon(image);
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height, GraphicsConfiguration screen) {
+        BufferedImage scaled = screen != null ? screen.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    /**
+     * Loads an animated GIF and waits for Swing's image loader to decode it.
+     */
+    private static ImageIcon loadAnimation(String path) throws IOException {
+        return new ImageIcon(resource(path)); // ImageIcon blocks until the image is loaded
+    }
+
+    private static Font loadFont(String path) throws IOException, FontFormatException {
+        try (InputStream in = resource(path).openStream()) {
+            return Font.createFont(Font.TRUETYPE_FONT, in).deriveFont(FONT_SIZE);
+        }
+    }
+}
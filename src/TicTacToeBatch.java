@@ -0,0 +1,106 @@
+/**
+ * Bulk classification of packed 3x3 positions (see TicTacToeBoard) for analytics jobs that score millions of boards
+ * at a time. Each position is reduced to a result with three table loads and no branches: a 512-entry table says
+ * whether a 9-bit mask holds a line, and an 8-entry table turns "X has a line, O has a line, board full" into
+ * X, O, TIE or EMPTY (still being played). The tables are small enough to stay in L1 cache, and with no
+ * data-dependent branches the loop runs at the same speed whatever mix of results it is fed.
+ *
+ * Results are the TicTacToeBoard winner values, matching TicTacToeBoard.winner() for every legal position. A position
+ * where both players have a line cannot come out of a real game and is reported as an X win.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public final class TicTacToeBatch
+{
+    private static final int CELLS = TicTacToeBoard.CELLS;
+    private static final int FULL = TicTacToeBoard.FULL;
+
+    // 1 if the 9-bit mask covers a winning line, else 0
+    private static final byte[] HAS_LINE = new byte[1 << CELLS];
+
+    // Result indexed by (X has a line) | (O has a line) << 1 | (board full) << 2
+    private static final byte[] RESULT = new byte[8];
+
+    static {
+        for (int mask = 0; mask <= FULL; mask++) {
+            HAS_LINE[mask] = (byte) (TicTacToeBoard.isWin(mask) ? 1 : 0);
+        }
+        for (int flags = 0; flags < RESULT.length; flags++) {
+            int result;
+            if ((flags & 1) != 0) result = TicTacToeBoard.X;
+            else if ((flags & 2) != 0) result = TicTacToeBoard.O;
+            else if ((flags & 4) != 0) result = TicTacToeBoard.TIE;
+            else result = TicTacToeBoard.EMPTY;
+            RESULT[flags] = (byte) result;
+        }
+    }
+
+    private TicTacToeBatch() {}
+
+    /**
+     * Classifies one position.
+     *
+     * @param position The packed position.
+     * @return X or O if that player has a line, TIE if the board is full, otherwise EMPTY.
+     */
+    public static int classify(int position) {
+        int x = position & FULL;
+        int o = (position >>> CELLS) & FULL;
+        int full = ((x | o) + 1) >>> CELLS; // 1 only when every square is taken
+        return RESULT[HAS_LINE[x] | HAS_LINE[o] << 1 | full << 2];
+    }
+
+    /**
+     * Classifies every position in an array.
+     *
+     * @param positions Packed positions.
+     * @return The result of each position, in the same order.
+     */
+    public static byte[] classify(int[] positions) {
+        byte[] results = new byte[positions.length];
+        classify(positions, 0, positions.length, results, 0);
+        return results;
+    }
+
+    /**
+     * Classifies a range of positions into a caller-supplied array, so a stream of batches can reuse one buffer.
+     *
+     * @param positions Packed positions.
+     * @param from Index of the first position.
+     * @param count Number of positions.
+     * @param results Receives the results.
+     * @param offset Index in results for the first result.
+     */
+    public static void classify(int[] positions, int from, int count, byte[] results, int offset) {
+        if (from < 0 || count < 0 || from + count > positions.length || offset < 0 || offset + count > results.length) {
+            throw new IndexOutOfBoundsException("Range " + from + "+" + count + " into " + offset);
+        }
+        byte[] hasLine = HAS_LINE;
+        byte[] result = RESULT;
+        for (int i = 0; i < count; i++) {
+            int position = positions[from + i];
+            int x = position & FULL;
+            int o = (position >>> CELLS) & FULL;
+            int full = ((x | o) + 1) >>> CELLS;
+            results[offset + i] = result[hasLine[x] | hasLine[o] << 1 | full << 2];
+        }
+    }
+
+    /**
+     * Counts the results of a range of positions without storing them.
+     *
+     * @param positions Packed positions.
+     * @param from Index of the first position.
+     * @param count Number of positions.
+     * @return Counts indexed by result: EMPTY, X, O, TIE.
+     */
+    public static long[] tally(int[] positions, int from, int count) {
+        if (from < 0 || count < 0 || from + count > positions.length) {
+            throw new IndexOutOfBoundsException("Range " + from + "+" + count);
+        }
+        long[] counts = new long[4];
+        for (int i = 0; i < count; i++) counts[classify(positions[from + i])]++;
+        return counts;
+    }
+}
@@ -0,0 +1,272 @@
+/**
+ * Headless Tic Tac Toe engine. A position is packed into a single int: bits 0-8 hold the squares taken by X and
+ * bits 9-17 hold the squares taken by O, with square index row * 3 + col. Positions are immutable values, so making
+ * or unmaking a move returns a new position and never allocates. Nothing here depends on Swing or AWT, which lets
+ * games be simulated without a window.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public final class TicTacToeBoard
+{
+    // Square / winner values
+    public static final int EMPTY = 0;
+    public static final int X = 1;
+    public static final int O = 2;
+    public static final int TIE = 3;
+
+    public static final int SIZE = 3; // rows and columns
+    public static final int CELLS = SIZE * SIZE; // number of squares
+    public static final int FULL = (1 << CELLS) - 1; // mask with every square set
+    public static final int EMPTY_POSITION = 0; // position with no moves made
+
+    // The 8 winning lines as 9-bit masks: 3 rows, 3 columns and the 2 diagonals
+    private static final int[] WIN_LINES = {
+            0x007, 0x038, 0x1C0, // rows
+            0x049, 0x092, 0x124, // columns
+            0x111, 0x054         // diagonals
+    };
+
+    // For each square, the winning lines passing through it, so a move only checks the lines it can complete
+    private static final int[][] LINES_THROUGH = new int[CELLS][];
+
+    // Symbols used by TicTacToeLogic and the UI, indexed by square / winner value
+    private static final String[] SYMBOLS = {" ", "X", "O", "T"};
+
+    static {
+        for (int cell = 0; cell < CELLS; cell++) {
+            int count = 0;
+            for (int line : WIN_LINES) {
+                if ((line & (1 << cell)) != 0) count++;
+            }
+            LINES_THROUGH[cell] = new int[count];
+            count = 0;
+            for (int line : WIN_LINES) {
+                if ((line & (1 << cell)) != 0) LINES_THROUGH[cell][count++] = line;
+            }
+        }
+    }
+
+    private TicTacToeBoard() {}
+
+    /**
+     * Converts a row and column to a square index.
+     *
+     * @param row The row (0-2).
+     * @param col The column (0-2).
+     * @return The square index (0-8).
+     */
+    public static int cell(int row, int col) {
+        return row * SIZE + col;
+    }
+
+    /**
+     * Packs a classic 3x3 TicTacToeGrid into a position.
+     *
+     * @param grid The board to pack.
+     * @return The packed position.
+     * @throws IllegalArgumentException if the grid is not 3x3.
+     */
+    public static int pack(TicTacToeGrid grid) {
+        if (grid.getWidth() != SIZE || grid.getHeight() != SIZE) {
+            throw new IllegalArgumentException("Only a 3x3 board can be packed: " + grid.getWidth() + "x" + grid.getHeight());
+        }
+        int position = EMPTY_POSITION;
+        for (int cell = 0; cell < CELLS; cell++) {
+            int value = grid.get(cell);
+            if (value != EMPTY) position = play(position, cell, value);
+        }
+        return position;
+    }
+
+    /**
+     * Returns the squares taken by X.
+     *
+     * @param position The packed position.
+     * @return 9-bit mask of X's squares.
+     */
+    public static int xMask(int position) {
+        return position & FULL;
+    }
+
+    /**
+     * Returns the squares taken by O.
+     *
+     * @param position The packed position.
+     * @return 9-bit mask of O's squares.
+     */
+    public static int oMask(int position) {
+        return (position >>> CELLS) & FULL;
+    }
+
+    /**
+     * Returns the squares taken by the given player.
+     *
+     * @param position The packed position.
+     * @param player X or O.
+     * @return 9-bit mask of that player's squares.
+     */
+    public static int mask(int position, int player) {
+        return player == X ? xMask(position) : oMask(position);
+    }
+
+    /**
+     * Returns the squares taken by either player.
+     *
+     * @param position The packed position.
+     * @return 9-bit mask of occupied squares.
+     */
+    public static int occupied(int position) {
+        return xMask(position) | oMask(position);
+    }
+
+    /**
+     * Returns the value of a square.
+     *
+     * @param position The packed position.
+     * @param cell The square index.
+     * @return X, O or EMPTY.
+     */
+    public static int get(int position, int cell) {
+        if ((position & (1 << cell)) != 0) return X;
+        if ((position & (1 << (cell + CELLS))) != 0) return O;
+        return EMPTY;
+    }
+
+    /**
+     * Checks whether a square is free.
+     *
+     * @param position The packed position.
+     * @param cell The square index.
+     * @return true if no player has taken the square.
+     */
+    public static boolean isFree(int position, int cell) {
+        return (occupied(position) & (1 << cell)) == 0;
+    }
+
+    /**
+     * Makes a move. The square is expected to be free.
+     *
+     * @param position The packed position.
+     * @param cell The square index.
+     * @param player X or O.
+     * @return The position after the move.
+     */
+    public static int play(int position, int cell, int player) {
+        return position | (1 << (player == X ? cell : cell + CELLS));
+    }
+
+    /**
+     * Takes back a move by clearing a square.
+     *
+     * @param position The packed position.
+     * @param cell The square index.
+     * @return The position with the square cleared.
+     */
+    public static int undo(int position, int cell) {
+        return position & ~((1 << cell) | (1 << (cell + CELLS)));
+    }
+
+    /**
+     * Returns the number of free squares.
+     *
+     * @param position The packed position.
+     * @return Number of squares not taken by either player.
+     */
+    public static int freeSquares(int position) {
+        return CELLS - Integer.bitCount(occupied(position));
+    }
+
+    /**
+     * Returns the player to move, assuming X always moves first.
+     *
+     * @param position The packed position.
+     * @return X or O.
+     */
+    public static int sideToMove(int position) {
+        return Integer.bitCount(xMask(position)) == Integer.bitCount(oMask(position)) ? X : O;
+    }
+
+    /**
+     * Returns the other player.
+     *
+     * @param player X or O.
+     * @return O or X.
+     */
+    public static int opponent(int player) {
+        return player ^ (X | O);
+    }
+
+    /**
+     * Checks whether a set of squares contains a complete winning line.
+     *
+     * @param mask 9-bit mask of one player's squares.
+     * @return true if the mask covers any winning line.
+     */
+    public static boolean isWin(int mask) {
+        for (int line : WIN_LINES) {
+            if ((mask & line) == line) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the player who holds a square has completed a line through it. Only the 2-4 lines
+     * passing through the square are tested.
+     *
+     * @param position The packed position after the move.
+     * @param cell The square of the last move.
+     * @return true if the move completed a line.
+     */
+    public static boolean isWinningMove(int position, int cell) {
+        int player = get(position, cell);
+        if (player == EMPTY) return false; // Ignore empty squares
+
+        int mask = mask(position, player);
+        for (int line : LINES_THROUGH[cell]) {
+            if ((mask & line) == line) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Determines the result of a position.
+     *
+     * @param position The packed position.
+     * @return X or O if that player has a line, TIE if the board is full, otherwise EMPTY.
+     */
+    public static int winner(int position) {
+        if (isWin(xMask(position))) return X;
+        if (isWin(oMask(position))) return O;
+        return occupied(position) == FULL ? TIE : EMPTY;
+    }
+
+    /**
+     * Returns the symbol used by the UI for a square or winner value.
+     *
+     * @param value EMPTY, X, O or TIE.
+     * @return " ", "X", "O" or "T".
+     */
+    public static String symbol(int value) {
+        return SYMBOLS[value];
+    }
+
+    /**
+     * Converts a UI symbol back to a square or winner value.
+     *
+     * @param symbol " ", "X", "O" or "T".
+     * @return EMPTY, X, O or TIE.
+     */
+    public static int valueOf(String symbol) {
+        switch (symbol) {
+            case "X":
+                return X;
+            case "O":
+                return O;
+            case "T":
+                return TIE;
+            default:
+                return EMPTY;
+        }
+    }
+}
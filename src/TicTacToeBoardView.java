@@ -0,0 +1,236 @@
+import javax.swing.ImageIcon;
+import javax.swing.JComponent;
+import javax.swing.Timer;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * The game board as a single custom-painted component rather than a grid of buttons. Each square is drawn
+ * from one of three cached sprites (blank, X, O) into an off-screen image of the whole board; after a move sync()
+ * redraws just the squares that changed and repaints only their rectangles, so even a 50x50 board stays cheap.
+ * Clicks are mapped to squares from the mouse position. The win and tie animations are drawn over the board image,
+ * with repaints driven by a frame timer rather than by every GIF frame the image loader delivers.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeBoardView extends JComponent
+{
+    /**
+     * Receives clicks on squares.
+     */
+    public interface MoveHandler
+    {
+        /**
+         * Called on the EDT when a square is clicked.
+         *
+         * @param row The clicked square's row.
+         * @param col The clicked square's column.
+         */
+        void squareClicked(int row, int col);
+    }
+
+    private static final long serialVersionUID = 1L;
+    private static final int FRAME_MS = 16;            // ~60 frames per second while the animation runs
+    private static final int ANIMATION_MS = 1850;      // length of the win and tie animations
+    private static final Color BACKGROUND = Color.DARK_GRAY;
+    private static final Color BORDER = Color.BLACK;
+
+    // Class instance variables
+    private final TicTacToeGrid grid;
+    private final ImageIcon[] icons;   // blank, X, O, indexed by square value; null until loaded
+    private final int[] painted;       // value each square was last drawn with, -1 to force a redraw
+    private BufferedImage[] sprites;   // icons drawn on the square background at the current square size
+    private BufferedImage board;       // off-screen image of the whole board
+    private int cellWidth;
+    private int cellHeight;
+    private MoveHandler moveHandler;
+
+    private ImageIcon animation;
+    private volatile boolean animationFrameReady;
+    private long animationStart;
+    private final Timer frameTimer;
+
+    /**
+     * Constructor for a view of a board.
+     *
+     * @param grid The board to draw; the view only reads it.
+     * @param blank Icon for an empty square, or null to draw it plain until setIcons() is called.
+     * @param x Icon for an X, or null.
+     * @param o Icon for an O, or null.
+     * @param preferredSize Preferred size of the whole board.
+     */
+    public TicTacToeBoardView(TicTacToeGrid grid, ImageIcon blank, ImageIcon x, ImageIcon o, Dimension preferredSize) {
+        this.grid = grid;
+        this.icons = new ImageIcon[]{blank, x, o};
+        this.painted = new int[grid.getCellCount()];
+        Arrays.fill(painted, -1);
+        setPreferredSize(preferredSize);
+        setOpaque(true);
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (moveHandler == null || cellWidth == 0 || cellHeight == 0) return;
+                int col = e.getX() / cellWidth;
+                int row = e.getY() / cellHeight;
+                if (row < grid.getHeight() && col < grid.getWidth()) moveHandler.squareClicked(row, col);
+            }
+        });
+
+        frameTimer = new Timer(FRAME_MS, e -> nextFrame());
+    }
+
+    /**
+     * Sets who is told about clicks on squares.
+     *
+     * @param moveHandler The handler, or null to ignore clicks.
+     */
+    public void setMoveHandler(MoveHandler moveHandler) {
+        this.moveHandler = moveHandler;
+    }
+
+    /**
+     * Replaces the square icons, e.g. once they have loaded, and redraws the whole board with them. Must be called
+     * on the EDT.
+     *
+     * @param blank Icon for an empty square.
+     * @param x Icon for an X.
+     * @param o Icon for an O.
+     */
+    public void setIcons(ImageIcon blank, ImageIcon x, ImageIcon o) {
+        icons[TicTacToeBoard.EMPTY] = blank;
+        icons[TicTacToeBoard.X] = x;
+        icons[TicTacToeBoard.O] = o;
+        board = null; // the next paint rebuilds the sprites and the board image
+        Arrays.fill(painted, -1);
+        repaint();
+    }
+
+    /**
+     * Brings the view up to date with the board, redrawing and repainting only the squares that changed since the
+     * last call. Must be called on the EDT after the board changes.
+     */
+    public void sync() {
+        if (board == null) return; // the first paint draws everything
+        Graphics2D g = board.createGraphics();
+        for (int cell = 0; cell < painted.length; cell++) {
+            int value = grid.get(cell);
+            if (painted[cell] == value) continue;
+            drawSquare(g, cell, value);
+            repaint((cell % grid.getWidth()) * cellWidth, (cell / grid.getWidth()) * cellHeight, cellWidth, cellHeight);
+        }
+        g.dispose();
+    }
+
+    /**
+     * Plays an animation over the board for about 1.85 seconds.
+     *
+     * @param animation The animated GIF to show.
+     */
+    public void showAnimation(ImageIcon animation) {
+        if (animation == null) return;
+        this.animation = animation;
+        animationStart = System.nanoTime();
+        animationFrameReady = true;
+        frameTimer.start();
+    }
+
+    /**
+     * Frame timer tick: repaints if the animation has a new frame, and ends it when its time is up.
+     */
+    private void nextFrame() {
+        if (System.nanoTime() - animationStart >= ANIMATION_MS * 1_000_000L) {
+            frameTimer.stop();
+            animation = null;
+            repaint();
+        } else if (animationFrameReady) {
+            animationFrameReady = false;
+            repaint();
+        }
+    }
+
+    /**
+     * Notes that the animation has a new frame instead of repainting straight away; the frame timer paints it.
+     * Animations that have finished stop getting updates.
+     */
+    @Override
+    public boolean imageUpdate(Image image, int flags, int x, int y, int width, int height) {
+        ImageIcon current = animation;
+        if (current == null || image != current.getImage()) return false; // only animations are drawn with this observer
+        animationFrameReady = true;
+        return (flags & (ALLBITS | ABORT)) == 0;
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        ensureBoardImage();
+        graphics.setColor(BACKGROUND);
+        graphics.fillRect(0, 0, getWidth(), getHeight());
+        graphics.drawImage(board, 0, 0, null);
+
+        ImageIcon current = animation;
+        if (current != null) {
+            // centred over the board, like the label it replaces
+            long start = TicTacToeMetrics.start();
+            int x = (getWidth() - current.getIconWidth()) / 2;
+            int y = (getHeight() - current.getIconHeight()) / 2;
+            graphics.drawImage(current.getImage(), x, y, this);
+            TicTacToeMetrics.stop(TicTacToeMetrics.Probe.ANIMATION, start);
+        }
+    }
+
+    /**
+     * (Re)builds the sprites and the board image when the component is first shown or resized.
+     */
+    private void ensureBoardImage() {
+        int width = Math.max(1, getWidth() / grid.getWidth());
+        int height = Math.max(1, getHeight() / grid.getHeight());
+        if (board != null && width == cellWidth && height == cellHeight) return;
+
+        cellWidth = width;
+        cellHeight = height;
+        sprites = new BufferedImage[icons.length];
+        for (int value = 0; value < icons.length; value++) {
+            sprites[value] = compatibleImage(cellWidth, cellHeight, Transparency.OPAQUE);
+            Graphics2D g = sprites[value].createGraphics();
+            g.setColor(BACKGROUND);
+            g.fillRect(0, 0, cellWidth, cellHeight);
+            ImageIcon icon = icons[value];
+            if (icon != null) {
+                g.drawImage(icon.getImage(), (cellWidth - icon.getIconWidth()) / 2, (cellHeight - icon.getIconHeight()) / 2, null);
+            }
+            g.setColor(BORDER);
+            g.drawRect(0, 0, cellWidth - 1, cellHeight - 1);
+            g.dispose();
+        }
+
+        board = compatibleImage(cellWidth * grid.getWidth(), cellHeight * grid.getHeight(), Transparency.OPAQUE);
+        Graphics2D g = board.createGraphics();
+        for (int cell = 0; cell < painted.length; cell++) drawSquare(g, cell, grid.get(cell));
+        g.dispose();
+    }
+
+    private void drawSquare(Graphics2D g, int cell, int value) {
+        g.drawImage(sprites[value], (cell % grid.getWidth()) * cellWidth, (cell / grid.getWidth()) * cellHeight, null);
+        painted[cell] = value;
+    }
+
+    /**
+     * Creates an image in the screen's native format where there is a screen.
+     */
+    private BufferedImage compatibleImage(int width, int height, int transparency) {
+        GraphicsConfiguration screen = getGraphicsConfiguration();
+        return screen != null ? screen.createCompatibleImage(width, height, transparency)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+}
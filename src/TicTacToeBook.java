@@ -0,0 +1,196 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only table of solved positions written by TicTacToeBookGenerator: the opening book, and for larger boards any
+ * endgames it could prove. Records are sorted by the canonical Zobrist hash of the position, so a lookup is a binary
+ * search straight over the file's bytes. When the book is a plain file it is memory-mapped, so opening it costs no
+ * parsing; inside a jar it cannot be mapped and is read into a direct buffer in one go instead.
+ *
+ * File layout (little-endian):
+ * <pre>
+ *   long magic | int width | int height | int winLength | int count
+ *   count records, sorted by hash:  long hash | short move | short score
+ * </pre>
+ * Moves are stored in the canonical orientation and scores follow TicTacToeSolver.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeBook
+{
+    public static final String RESOURCE_FOLDER = "book/";
+    public static final int NOT_FOUND = Integer.MIN_VALUE;
+
+    static final long MAGIC = 0x314B4F4F42545454L; // "TTTBOOK1" read little-endian
+    static final int HEADER_BYTES = 24;
+    static final int RECORD_BYTES = 12;
+
+    // Books already opened, one per board configuration
+    private static final Map<String, TicTacToeBook> BOOKS = new ConcurrentHashMap<>();
+
+    // Class instance variables
+    private final ByteBuffer records;
+    private final int count;
+    private final TicTacToeZobrist zobrist;
+
+    /**
+     * Constructor for a book over a buffer holding a whole book file.
+     *
+     * @param buffer The file contents.
+     * @param width Expected number of columns.
+     * @param height Expected number of rows.
+     * @param winLength Expected win length.
+     * @throws IOException if the buffer is not a book for that board.
+     */
+    private TicTacToeBook(ByteBuffer buffer, int width, int height, int winLength) throws IOException {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.limit() < HEADER_BYTES || buffer.getLong(0) != MAGIC) throw new IOException("Not an opening book");
+        if (buffer.getInt(8) != width || buffer.getInt(12) != height || buffer.getInt(16) != winLength) {
+            throw new IOException("Opening book is for a different board");
+        }
+        count = buffer.getInt(20);
+        if ((long) HEADER_BYTES + (long) count * RECORD_BYTES > buffer.limit()) throw new IOException("Opening book is truncated");
+        records = buffer;
+        zobrist = TicTacToeZobrist.forSize(width, height);
+    }
+
+    /**
+     * Empty book, for boards without one.
+     */
+    private TicTacToeBook(int width, int height) {
+        records = null;
+        count = 0;
+        zobrist = TicTacToeZobrist.forSize(width, height);
+    }
+
+    /**
+     * Returns the book for a board's configuration, opening it from the classpath the first time. Boards with no book
+     * get an empty one.
+     *
+     * @param grid Any board of the configuration.
+     * @return The book, possibly empty.
+     */
+    public static TicTacToeBook forGrid(TicTacToeGrid grid) {
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        int winLength = grid.getWinLength();
+        return BOOKS.computeIfAbsent(fileName(width, height, winLength), name -> {
+            URL resource = TicTacToeBook.class.getClassLoader().getResource(RESOURCE_FOLDER + name);
+            if (resource == null) return new TicTacToeBook(width, height);
+            try {
+                if (resource.getProtocol().equals("file")) return open(Paths.get(resource.toURI()), width, height, winLength);
+                return new TicTacToeBook(readFully(resource), width, height, winLength);
+            } catch (IOException | URISyntaxException e) {
+                e.printStackTrace();
+                return new TicTacToeBook(width, height);
+            }
+        });
+    }
+
+    /**
+     * Memory-maps a book file.
+     *
+     * @param file The book file.
+     * @param width Number of columns it must be for.
+     * @param height Number of rows it must be for.
+     * @param winLength Win length it must be for.
+     * @return The book.
+     * @throws IOException if the file cannot be mapped or is not a book for that board.
+     */
+    public static TicTacToeBook open(Path file, int width, int height, int winLength) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new TicTacToeBook(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), width, height, winLength);
+        }
+    }
+
+    private static ByteBuffer readFully(URL resource) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = resource.openStream()) {
+            byte[] chunk = new byte[1 << 16];
+            int read;
+            while ((read = in.read(chunk)) > 0) bytes.write(chunk, 0, read);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+        buffer.put(bytes.toByteArray());
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Returns the file name of the book for a board configuration.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     * @param winLength Win length.
+     * @return The file name, e.g. book-3x3x3.bin.
+     */
+    public static String fileName(int width, int height, int winLength) {
+        return "book-" + width + "x" + height + "x" + winLength + ".bin";
+    }
+
+    /**
+     * Looks up the best move for the player to move.
+     *
+     * @param grid The board.
+     * @return The square index of the best move, or -1 if the position is not in the book.
+     */
+    public int bestMove(TicTacToeGrid grid) {
+        if (count == 0) return -1;
+        int transform = zobrist.canonicalTransform(grid);
+        int record = find(zobrist.hash(grid, transform));
+        return record < 0 ? -1 : zobrist.unmapCell(transform, records.getShort(offset(record) + 8));
+    }
+
+    /**
+     * Looks up the game-theoretic score of a position for the player to move.
+     *
+     * @param grid The board.
+     * @return The score, or NOT_FOUND if the position is not in the book.
+     */
+    public int score(TicTacToeGrid grid) {
+        if (count == 0) return NOT_FOUND;
+        int record = find(zobrist.hash(grid, zobrist.canonicalTransform(grid)));
+        return record < 0 ? NOT_FOUND : records.getShort(offset(record) + 10);
+    }
+
+    /**
+     * Returns the number of positions in the book.
+     *
+     * @return The record count.
+     */
+    public int getEntries() {
+        return count;
+    }
+
+    /**
+     * Binary search over the sorted records.
+     */
+    private int find(long hash) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long key = records.getLong(offset(mid));
+            if (key < hash) low = mid + 1;
+            else if (key > hash) high = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    private static int offset(int record) {
+        return HEADER_BYTES + record * RECORD_BYTES;
+    }
+}
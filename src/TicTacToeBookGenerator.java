@@ -0,0 +1,199 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Builds the opening book read by TicTacToeBook. Walks every position reachable in the first N plies, keeps one
+ * position per symmetry class, solves each with TicTacToeSolver and writes the sorted records to a book file. With
+ * N covering the whole board (the default for 3x3) this is a complete table of every reachable position.
+ *
+ * Listing every near-full endgame is out of reach on bigger boards (every way of filling all but a few squares), so
+ * endgames are sampled instead: random games are played until a given number of squares is left, and those
+ * positions are solved and added. Positions the solver cannot prove within its node budget are left out.
+ *
+ * The Maven build runs this for 3x3 and 4x4 so the books are packed into the jar.
+ *
+ * Usage: java TicTacToeBookGenerator output-folder [width height winLength] [plies] [endgame squares] [samples] [node budget]
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeBookGenerator
+{
+    // Class instance variables
+    private final TicTacToeGrid grid;
+    private final TicTacToeSolver solver;
+    private final TicTacToeZobrist zobrist;
+    private final long nodeBudget;
+    private final Map<Long, Integer> entries = new HashMap<>(); // canonical hash to move << 16 | score
+    private final Map<Long, Boolean> visited = new HashMap<>(); // canonical hashes already walked
+    private long unsolved;
+
+    /**
+     * Constructor for a generator of one board configuration.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     * @param winLength Number of marks in a row needed to win.
+     * @param nodeBudget Maximum positions the solver may visit per book position, or 0 for no limit.
+     */
+    public TicTacToeBookGenerator(int width, int height, int winLength, long nodeBudget) {
+        grid = new TicTacToeGrid(width, height, winLength);
+        solver = new TicTacToeSolver(width, height);
+        zobrist = solver.getZobrist();
+        this.nodeBudget = nodeBudget;
+    }
+
+    /**
+     * Adds every position reachable within the first plies to the book.
+     *
+     * @param plies Number of moves from the empty board to cover.
+     */
+    public void addOpenings(int plies) {
+        walk(TicTacToeBoard.X, plies);
+    }
+
+    private void walk(int player, int pliesLeft) {
+        if (pliesLeft == 0 || grid.getFreeSquares() == 0) return;
+        long hash = zobrist.hash(grid, zobrist.canonicalTransform(grid));
+        if (visited.put(hash, Boolean.TRUE) != null) return; // symmetric or transposed position already walked
+
+        add(player);
+        for (int cell = 0; cell < grid.getCellCount(); cell++) {
+            if (!grid.isFree(cell)) continue;
+            grid.place(cell, player);
+            if (!grid.isWinningMove(cell)) walk(TicTacToeBoard.opponent(player), pliesLeft - 1);
+            grid.remove(cell);
+        }
+    }
+
+    /**
+     * Adds endgames found by playing random games until a number of squares is left.
+     *
+     * @param squaresLeft Free squares left in each sampled endgame.
+     * @param samples Number of random games to play.
+     * @param seed Random seed, so a build always produces the same book.
+     */
+    public void addEndgames(int squaresLeft, long samples, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] free = new int[grid.getCellCount()];
+        int[] played = new int[grid.getCellCount()];
+        for (long s = 0; s < samples; s++) {
+            int count = 0;
+            for (int cell = 0; cell < free.length; cell++) free[count++] = cell;
+
+            int player = TicTacToeBoard.X;
+            int moves = 0;
+            boolean over = false;
+            while (count > squaresLeft && !over) {
+                int pick = random.nextInt(count);
+                int cell = free[pick];
+                free[pick] = free[--count];
+                grid.place(cell, player);
+                played[moves++] = cell;
+                over = grid.isWinningMove(cell);
+                player = TicTacToeBoard.opponent(player);
+            }
+            if (!over && count > 0 && visited.put(zobrist.hash(grid, zobrist.canonicalTransform(grid)), Boolean.TRUE) == null) {
+                add(player);
+            }
+            while (moves > 0) grid.remove(played[--moves]);
+        }
+    }
+
+    /**
+     * Solves the current position and records it in canonical orientation.
+     */
+    private void add(int player) {
+        if (!solver.solve(grid, player, nodeBudget)) {
+            unsolved++;
+            return;
+        }
+        int transform = zobrist.canonicalTransform(grid);
+        int move = zobrist.mapCell(transform, solver.getBestMove());
+        entries.put(zobrist.hash(grid, transform), move << 16 | (solver.getScore() & 0xFFFF));
+    }
+
+    /**
+     * Returns the number of positions the solver gave up on.
+     *
+     * @return Positions left out of the book.
+     */
+    public long getUnsolved() {
+        return unsolved;
+    }
+
+    /**
+     * Writes the book, sorted by hash.
+     *
+     * @param file The book file to write.
+     * @return The number of records written.
+     * @throws IOException if the file cannot be written.
+     */
+    public int write(Path file) throws IOException {
+        long[] hashes = new long[entries.size()];
+        int n = 0;
+        for (long hash : entries.keySet()) hashes[n++] = hash;
+        Arrays.sort(hashes);
+
+        ByteBuffer buffer = ByteBuffer.allocate(TicTacToeBook.HEADER_BYTES + n * TicTacToeBook.RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(TicTacToeBook.MAGIC);
+        buffer.putInt(grid.getWidth());
+        buffer.putInt(grid.getHeight());
+        buffer.putInt(grid.getWinLength());
+        buffer.putInt(n);
+        for (long hash : hashes) {
+            int entry = entries.get(hash);
+            buffer.putLong(hash);
+            buffer.putShort((short) (entry >>> 16));
+            buffer.putShort((short) entry);
+        }
+        buffer.flip();
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+        return n;
+    }
+
+    /**
+     * Generates a book from the command line.
+     *
+     * @param args output-folder [width height winLength] [plies] [endgame squares] [samples] [node budget]
+     * @throws IOException if the book cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: java TicTacToeBookGenerator output-folder [width height winLength] [plies] [endgame squares] [samples] [node budget]");
+            return;
+        }
+        int width = args.length > 1 ? Integer.parseInt(args[1]) : TicTacToeBoard.SIZE;
+        int height = args.length > 2 ? Integer.parseInt(args[2]) : width;
+        int winLength = args.length > 3 ? Integer.parseInt(args[3]) : Math.min(TicTacToeBoard.SIZE, Math.min(width, height));
+        int plies = args.length > 4 ? Integer.parseInt(args[4]) : width * height;
+        int endgame = args.length > 5 ? Integer.parseInt(args[5]) : 0;
+        long samples = args.length > 6 ? Long.parseLong(args[6]) : 0;
+        long nodeBudget = args.length > 7 ? Long.parseLong(args[7]) : 1_000_000;
+
+        long start = System.nanoTime();
+        TicTacToeBookGenerator generator = new TicTacToeBookGenerator(width, height, winLength, nodeBudget);
+        generator.addOpenings(plies);
+        if (endgame > 0 && samples > 0) generator.addEndgames(endgame, samples, 1);
+        Path file = Paths.get(args[0]).resolve(TicTacToeBook.fileName(width, height, winLength));
+        int records = generator.write(file);
+
+        System.out.println(String.format("%s: %,d positions (%,d unsolved skipped) in %.1f s", file, records,
+                generator.getUnsolved(), (System.nanoTime() - start) / 1e9));
+    }
+}
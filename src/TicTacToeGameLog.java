@@ -0,0 +1,340 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Append-only, event-sourced log of every move played. Each event is packed into 8 bytes and appended to fixed-size
+ * segment files in a directory through a MappedByteBuffer; the buffer is forced to disk in batches rather than per
+ * move. replay() maps the segments read-only and streams the events back without copying them, so billions of moves
+ * can be re-read to rebuild leaderboards or feed training.
+ *
+ * Event layout (one little-endian long):
+ * <pre>
+ *   bits  0-1   player: TicTacToeBoard.X or O for a move, 3 for a move taken back, 0 for a game boundary
+ *   bits  2-13  square index for a move or take-back, or the game's winner (EMPTY, X, O or TIE) for a boundary
+ *   bits 14-25  ply (0 for the first move of a game)
+ *   bits 26-63  game id, starting from 1
+ * </pre>
+ * Each segment starts with a 16-byte header: the magic number, then the next game id to hand out, kept up to date as
+ * ids are reserved so a reopened log never reuses one, even when games are interleaved. A long of 0 marks the end of
+ * the written part of a segment. Undo is logged as a take-back of the last move, and a
+ * redone move as a move again, so applying the events in order rebuilds the board as it was actually played.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeGameLog implements Closeable
+{
+    /**
+     * Receives events during replay.
+     */
+    public interface Visitor
+    {
+        /**
+         * Called for every move.
+         *
+         * @param gameId The game the move belongs to.
+         * @param ply The move number within the game, from 0.
+         * @param cell The square index.
+         * @param player TicTacToeBoard.X or O.
+         */
+        void onMove(long gameId, int ply, int cell, int player);
+
+        /**
+         * Called when the last move of a game is taken back.
+         *
+         * @param gameId The game the move belongs to.
+         * @param ply The move number of the move taken back, from 0.
+         * @param cell The square index.
+         */
+        default void onTakeBack(long gameId, int ply, int cell) {}
+
+        /**
+         * Called when a game is cleared for the next one.
+         *
+         * @param gameId The game that ended.
+         * @param winner TicTacToeBoard.X, O, TIE, or EMPTY if it was abandoned unfinished.
+         */
+        void onGameEnd(long gameId, int winner);
+    }
+
+    public static final long DEFAULT_SEGMENT_BYTES = 64L << 20; // 8M events per segment
+    public static final int DEFAULT_FLUSH_EVENTS = 4096;
+
+    private static final long MAGIC = 0x3230474F4C545454L; // "TTTLOG02" read little-endian
+    private static final int NEXT_ID_OFFSET = Long.BYTES; // header field holding the next game id
+    private static final int HEADER_BYTES = 2 * Long.BYTES;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final int TAKE_BACK = 3; // player field of a take-back event
+    private static final int CELL_SHIFT = 2;
+    private static final int PLY_SHIFT = 14;
+    private static final int GAME_SHIFT = 26;
+    private static final long FIELD_MASK = (1L << 12) - 1; // cell and ply fields
+    public static final int MAX_CELLS = (int) FIELD_MASK + 1;
+
+    // Class instance variables
+    private final Path directory;
+    private final long segmentBytes;
+    private final int flushEvents;
+    private MappedByteBuffer segment;
+    private int segmentNumber;
+    private int unflushed;
+    private long nextGameId = 1;
+
+    /**
+     * Opens a log directory with the default segment size and flush batch, continuing after any events already in it.
+     *
+     * @param directory The directory holding the segments; created if missing.
+     * @throws IOException if the directory or a segment cannot be opened.
+     */
+    public TicTacToeGameLog(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_FLUSH_EVENTS);
+    }
+
+    /**
+     * Opens a log directory, continuing after any events already in it.
+     *
+     * @param directory The directory holding the segments; created if missing.
+     * @param segmentBytes Size of each segment file.
+     * @param flushEvents Number of events written between forced flushes to disk.
+     * @throws IOException if the directory or a segment cannot be opened.
+     */
+    public TicTacToeGameLog(Path directory, long segmentBytes, int flushEvents) throws IOException {
+        if (segmentBytes < HEADER_BYTES + Long.BYTES || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size out of range: " + segmentBytes);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.flushEvents = Math.max(1, flushEvents);
+        Files.createDirectories(directory);
+
+        // Continue in the last segment, after its last event, with the ids its header says are still unused
+        List<Path> segments = segments(directory);
+        if (segments.isEmpty()) {
+            openSegment(0);
+        } else {
+            Path last = segments.get(segments.size() - 1);
+            openSegment(segmentNumber(last));
+            nextGameId = Math.max(1, segment.getLong(NEXT_ID_OFFSET));
+            while (segment.remaining() >= Long.BYTES) {
+                long event = segment.getLong(segment.position());
+                if (event == 0) break;
+                nextGameId = Math.max(nextGameId, (event >>> GAME_SHIFT) + 1); // in case the header write was lost
+                segment.position(segment.position() + Long.BYTES);
+            }
+        }
+    }
+
+    /**
+     * Reserves an id for a new game.
+     *
+     * @return A game id not used before in this log.
+     */
+    public synchronized long nextGameId() {
+        long id = nextGameId++;
+        segment.putLong(NEXT_ID_OFFSET, nextGameId); // survives a reopen along with the events
+        return id;
+    }
+
+    /**
+     * Appends a move.
+     *
+     * @param gameId The game the move belongs to.
+     * @param ply The move number within the game, from 0.
+     * @param cell The square index.
+     * @param player TicTacToeBoard.X or O.
+     * @throws IOException if a new segment is needed and cannot be created.
+     */
+    public void appendMove(long gameId, int ply, int cell, int player) throws IOException {
+        append(gameId << GAME_SHIFT | (long) ply << PLY_SHIFT | (long) cell << CELL_SHIFT | player);
+    }
+
+    /**
+     * Appends the take-back of a game's last move.
+     *
+     * @param gameId The game the move belongs to.
+     * @param ply The move number of the move taken back, from 0.
+     * @param cell The square index.
+     * @throws IOException if a new segment is needed and cannot be created.
+     */
+    public void appendTakeBack(long gameId, int ply, int cell) throws IOException {
+        append(gameId << GAME_SHIFT | (long) ply << PLY_SHIFT | (long) cell << CELL_SHIFT | TAKE_BACK);
+    }
+
+    /**
+     * Appends a game boundary, recording how the game ended.
+     *
+     * @param gameId The game that ended.
+     * @param winner TicTacToeBoard.X, O, TIE, or EMPTY if the game was abandoned unfinished.
+     * @throws IOException if a new segment is needed and cannot be created.
+     */
+    public void appendGameEnd(long gameId, int winner) throws IOException {
+        append(gameId << GAME_SHIFT | (long) winner << CELL_SHIFT);
+    }
+
+    private synchronized void append(long event) throws IOException {
+        if (segment.remaining() < Long.BYTES) {
+            segment.force();
+            openSegment(segmentNumber + 1);
+        }
+        segment.putLong(event);
+        if (++unflushed >= flushEvents) flush();
+    }
+
+    /**
+     * Forces events written so far to disk.
+     */
+    public synchronized void flush() {
+        segment.force();
+        unflushed = 0;
+    }
+
+    /**
+     * Flushes outstanding events. The mapped segment is released once it is garbage collected.
+     */
+    @Override
+    public synchronized void close() {
+        flush();
+    }
+
+    /**
+     * Maps a segment for writing, creating it with a header if it does not exist yet. A new segment's header starts
+     * from the current next game id.
+     */
+    private void openSegment(int number) throws IOException {
+        Path path = directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        if (segment.getLong(0) == 0) {
+            segment.putLong(0, MAGIC);
+            segment.putLong(NEXT_ID_OFFSET, nextGameId);
+        } else if (segment.getLong(0) != MAGIC) {
+            throw new IOException("Not a game log segment: " + path);
+        }
+        segment.position(HEADER_BYTES);
+        segmentNumber = number;
+    }
+
+    /**
+     * Streams every event in a log directory, oldest first, to a visitor. Segments are memory-mapped read-only and
+     * events are decoded in place.
+     *
+     * @param directory The log directory.
+     * @param visitor Receives the events.
+     * @return The number of events read.
+     * @throws IOException if a segment cannot be read.
+     */
+    public static long replay(Path directory, Visitor visitor) throws IOException {
+        long events = 0;
+        for (Path path : segments(directory)) {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.limit() < HEADER_BYTES || buffer.getLong(0) != MAGIC) {
+                throw new IOException("Not a game log segment: " + path);
+            }
+
+            for (int offset = HEADER_BYTES; offset + Long.BYTES <= buffer.limit(); offset += Long.BYTES) {
+                long event = buffer.getLong(offset);
+                if (event == 0) break; // end of written events
+
+                long gameId = event >>> GAME_SHIFT;
+                int player = (int) (event & 3);
+                int cell = (int) ((event >>> CELL_SHIFT) & FIELD_MASK);
+                if (player == TicTacToeBoard.EMPTY) {
+                    visitor.onGameEnd(gameId, cell);
+                } else if (player == TAKE_BACK) {
+                    visitor.onTakeBack(gameId, (int) ((event >>> PLY_SHIFT) & FIELD_MASK), cell);
+                } else {
+                    visitor.onMove(gameId, (int) ((event >>> PLY_SHIFT) & FIELD_MASK), cell, player);
+                }
+                events++;
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Rebuilds a leaderboard from the game boundaries in a log.
+     *
+     * @param directory The log directory.
+     * @return A leaderboard with every finished game in the log.
+     * @throws IOException if a segment cannot be read.
+     */
+    public static TicTacToeLeaderboard rebuildLeaderboard(Path directory) throws IOException {
+        final TicTacToeLeaderboard leaderboard = new TicTacToeLeaderboard();
+        replay(directory, new Visitor() {
+            public void onMove(long gameId, int ply, int cell, int player) {}
+
+            public void onGameEnd(long gameId, int winner) {
+                if (winner != TicTacToeBoard.EMPTY) leaderboard.record(TicTacToeLeaderboard.Outcome.of(winner));
+            }
+        });
+        return leaderboard;
+    }
+
+    /**
+     * Lists the segment files in a log directory in write order.
+     */
+    private static List<Path> segments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) return segments;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) segments.add(path);
+        }
+        Collections.sort(segments); // zero-padded numbers sort in order
+        return segments;
+    }
+
+    private static int segmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Replays a log directory from the command line, printing the rebuilt leaderboard and the replay speed.
+     *
+     * @param args The log directory.
+     * @throws IOException if the log cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: java TicTacToeGameLog <log directory>");
+            return;
+        }
+        long start = System.nanoTime();
+        final TicTacToeLeaderboard leaderboard = new TicTacToeLeaderboard();
+        final long[] moves = new long[1];
+        long events = replay(Paths.get(args[0]), new Visitor() {
+            public void onMove(long gameId, int ply, int cell, int player) {
+                moves[0]++;
+            }
+
+            public void onGameEnd(long gameId, int winner) {
+                if (winner != TicTacToeBoard.EMPTY) leaderboard.record(TicTacToeLeaderboard.Outcome.of(winner));
+            }
+        });
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] results = leaderboard.snapshot();
+        System.out.println(events + " events (" + moves[0] + " moves) replayed in " + String.format("%.3f", seconds) + " s, "
+                + String.format("%,.0f", events / seconds) + " events/s");
+        System.out.println("Leaderboard - X: " + results[0] + " | O: " + results[1] + " | Ties: " + results[2]);
+    }
+}
@@ -0,0 +1,221 @@
+import java.util.Arrays;
+
+/**
+ * Headless board for m,n,k games: a width x height grid where the first player to get winLength marks in a row,
+ * column or diagonal wins. Classic Tic Tac Toe is 3,3,3; Gomoku-style variants use e.g. 15,15,5. Squares are indexed
+ * row * width + col and hold TicTacToeBoard.EMPTY, X or O. Win detection only scans outward from the last move along
+ * the four directions, so each check costs O(winLength) whatever the board size.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeGrid
+{
+    // Directions scanned from the last move: across, down, down-right and down-left
+    private static final int[] DIRECTION_ROWS = {0, 1, 1, 1};
+    private static final int[] DIRECTION_COLS = {1, 0, 1, -1};
+
+    // Class instance variables
+    private final int width;
+    private final int height;
+    private final int winLength;
+    private final byte[] cells;
+    private int freeSquares;
+
+    /**
+     * Constructor for an empty board.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     * @param winLength Number of marks in a row needed to win.
+     * @throws IllegalArgumentException if a dimension is not positive or the win length does not fit on the board.
+     */
+    public TicTacToeGrid(int width, int height, int winLength) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("Board must be at least 1x1: " + width + "x" + height);
+        }
+        if (winLength < 1 || winLength > Math.max(width, height)) {
+            throw new IllegalArgumentException("Win length " + winLength + " does not fit on a " + width + "x" + height + " board");
+        }
+        this.width = width;
+        this.height = height;
+        this.winLength = winLength;
+        this.cells = new byte[width * height];
+        this.freeSquares = cells.length;
+    }
+
+    /**
+     * Copy constructor, so search threads can each work on their own board.
+     *
+     * @param other The board to copy.
+     */
+    public TicTacToeGrid(TicTacToeGrid other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.winLength = other.winLength;
+        this.cells = other.cells.clone();
+        this.freeSquares = other.freeSquares;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return The board width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return The board height.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the number of marks in a row needed to win.
+     *
+     * @return The win length.
+     */
+    public int getWinLength() {
+        return winLength;
+    }
+
+    /**
+     * Returns the total number of squares.
+     *
+     * @return width * height.
+     */
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * Returns the number of squares no player has taken.
+     *
+     * @return The number of free squares.
+     */
+    public int getFreeSquares() {
+        return freeSquares;
+    }
+
+    /**
+     * Checks whether this is the classic 3x3 game with three in a row, which TicTacToeBoard can represent.
+     *
+     * @return true for a 3,3,3 board.
+     */
+    public boolean isClassic() {
+        return width == TicTacToeBoard.SIZE && height == TicTacToeBoard.SIZE && winLength == TicTacToeBoard.SIZE;
+    }
+
+    /**
+     * Converts a row and column to a square index.
+     *
+     * @param row The row.
+     * @param col The column.
+     * @return The square index.
+     */
+    public int cell(int row, int col) {
+        return row * width + col;
+    }
+
+    /**
+     * Returns the value of a square.
+     *
+     * @param cell The square index.
+     * @return TicTacToeBoard.EMPTY, X or O.
+     */
+    public int get(int cell) {
+        return cells[cell];
+    }
+
+    /**
+     * Returns the value of a square.
+     *
+     * @param row The row.
+     * @param col The column.
+     * @return TicTacToeBoard.EMPTY, X or O.
+     */
+    public int get(int row, int col) {
+        return cells[cell(row, col)];
+    }
+
+    /**
+     * Checks whether a square is free.
+     *
+     * @param cell The square index.
+     * @return true if no player has taken the square.
+     */
+    public boolean isFree(int cell) {
+        return cells[cell] == TicTacToeBoard.EMPTY;
+    }
+
+    /**
+     * Marks a square for a player. The square is expected to be free.
+     *
+     * @param cell The square index.
+     * @param player TicTacToeBoard.X or O.
+     */
+    public void place(int cell, int player) {
+        cells[cell] = (byte) player;
+        freeSquares--;
+    }
+
+    /**
+     * Takes back a move by clearing a taken square.
+     *
+     * @param cell The square index.
+     */
+    public void remove(int cell) {
+        cells[cell] = TicTacToeBoard.EMPTY;
+        freeSquares++;
+    }
+
+    /**
+     * Clears every square.
+     */
+    public void clear() {
+        Arrays.fill(cells, (byte) TicTacToeBoard.EMPTY);
+        freeSquares = cells.length;
+    }
+
+    /**
+     * Checks whether the mark on a square completes a line of winLength through it, scanning outward from the
+     * square in each of the four directions.
+     *
+     * @param cell The square of the last move.
+     * @return true if the move completed a line.
+     */
+    public boolean isWinningMove(int cell) {
+        int player = cells[cell];
+        if (player == TicTacToeBoard.EMPTY) return false; // Ignore empty squares
+
+        int row = cell / width;
+        int col = cell % width;
+        for (int d = 0; d < DIRECTION_ROWS.length; d++) {
+            int count = 1
+                    + run(row, col, DIRECTION_ROWS[d], DIRECTION_COLS[d], player)
+                    + run(row, col, -DIRECTION_ROWS[d], -DIRECTION_COLS[d], player);
+            if (count >= winLength) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Counts the player's marks next to a square in one direction, stopping after winLength - 1.
+     */
+    private int run(int row, int col, int dRow, int dCol, int player) {
+        int count = 0;
+        int r = row + dRow;
+        int c = col + dCol;
+        while (count < winLength - 1 && r >= 0 && r < height && c >= 0 && c < width && cells[r * width + c] == player) {
+            count++;
+            r += dRow;
+            c += dCol;
+        }
+        return count;
+    }
+}
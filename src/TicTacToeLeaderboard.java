@@ -0,0 +1,148 @@
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe tally of game outcomes. Each outcome has its own LongAdder, so many game sessions can record results
+ * at once without locking, boxing, or losing updates. Reads take a snapshot of all three counts. Separate tallies
+ * per player or per session hang off the same leaderboard by name.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeLeaderboard
+{
+    /**
+     * The result of a finished game, in the order getLeaderboard() reports them.
+     */
+    public enum Outcome
+    {
+        X_WIN("X"), O_WIN("O"), TIE("T");
+
+        private final String symbol;
+
+        Outcome(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Returns the symbol TicTacToeLogic uses for this outcome.
+         *
+         * @return "X", "O" or "T".
+         */
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Converts a winner symbol to an outcome.
+         *
+         * @param symbol "X", "O" or "T".
+         * @return The matching outcome.
+         * @throws IllegalArgumentException for any other symbol.
+         */
+        public static Outcome of(String symbol) {
+            switch (symbol) {
+                case "X":
+                    return X_WIN;
+                case "O":
+                    return O_WIN;
+                case "T":
+                    return TIE;
+                default:
+                    throw new IllegalArgumentException("Not a game outcome: '" + symbol + "'");
+            }
+        }
+
+        /**
+         * Converts a TicTacToeBoard winner value to an outcome.
+         *
+         * @param winner TicTacToeBoard.X, O or TIE.
+         * @return The matching outcome.
+         * @throws IllegalArgumentException for any other value.
+         */
+        public static Outcome of(int winner) {
+            switch (winner) {
+                case TicTacToeBoard.X:
+                    return X_WIN;
+                case TicTacToeBoard.O:
+                    return O_WIN;
+                case TicTacToeBoard.TIE:
+                    return TIE;
+                default:
+                    throw new IllegalArgumentException("Not a game outcome: " + winner);
+            }
+        }
+    }
+
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    // Class instance variables
+    private final LongAdder[] counts = new LongAdder[OUTCOMES.length];
+    private final ConcurrentMap<String, TicTacToeLeaderboard> tallies = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for an empty leaderboard.
+     */
+    public TicTacToeLeaderboard() {
+        for (int i = 0; i < counts.length; i++) counts[i] = new LongAdder();
+    }
+
+    /**
+     * Records one finished game.
+     *
+     * @param outcome The result of the game.
+     */
+    public void record(Outcome outcome) {
+        counts[outcome.ordinal()].increment();
+    }
+
+    /**
+     * Adds a number of results at once, e.g. from a batch of simulated games.
+     *
+     * @param outcome The result being added.
+     * @param games The number of games with that result.
+     */
+    public void add(Outcome outcome, long games) {
+        counts[outcome.ordinal()].add(games);
+    }
+
+    /**
+     * Returns the count for one outcome.
+     *
+     * @param outcome The outcome.
+     * @return The number of games recorded with that result.
+     */
+    public long get(Outcome outcome) {
+        return counts[outcome.ordinal()].sum();
+    }
+
+    /**
+     * Reads all counts. Results recorded while the snapshot is taken may or may not be included.
+     *
+     * @return X wins, O wins and ties, in that order.
+     */
+    public long[] snapshot() {
+        long[] result = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) result[i] = counts[i].sum();
+        return result;
+    }
+
+    /**
+     * Returns the separate tally kept under a name, such as a player or a session id, creating it on first use.
+     *
+     * @param name The player or session name.
+     * @return That name's leaderboard.
+     */
+    public TicTacToeLeaderboard tally(String name) {
+        return tallies.computeIfAbsent(name, key -> new TicTacToeLeaderboard());
+    }
+
+    /**
+     * Clears every count, including the named tallies.
+     */
+    public void reset() {
+        for (LongAdder count : counts) count.reset();
+        tallies.clear();
+    }
+}
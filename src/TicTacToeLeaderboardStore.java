@@ -0,0 +1,196 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * Saves leaderboard totals to a small fixed-layout binary file so they survive restarts. Saves run on a background
+ * thread and are coalesced: any number of requests within a short window produce one write of the latest totals.
+ * Each write goes to a temporary file that is forced to disk and then atomically renamed over the old one, so a
+ * crash leaves either the previous file or the new one, never a torn mix. A CRC guards against anything else.
+ *
+ * File layout (48 bytes, little-endian):
+ * <pre>
+ *   int magic | int version | long sequence | long xWins | long oWins | long ties | long crc32 of the preceding bytes
+ * </pre>
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeLeaderboardStore implements AutoCloseable
+{
+    private static final int MAGIC = 0x5454544C; // "LTTT" read little-endian
+    private static final int VERSION = 1;
+    private static final int FILE_BYTES = 48;
+    private static final int CRC_OFFSET = FILE_BYTES - Long.BYTES;
+    private static final long SAVE_DELAY_MS = 250; // window in which save requests are coalesced
+
+    // Class instance variables
+    private final Path path;
+    private final Path tempPath;
+    private final ScheduledExecutorService writer;
+    private final AtomicBoolean savePending = new AtomicBoolean();
+    private long sequence;
+
+    /**
+     * Constructor for a store backed by the given file.
+     *
+     * @param path The leaderboard file.
+     */
+    public TicTacToeLeaderboardStore(Path path) {
+        this.path = path;
+        this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the default file for a board configuration, in a .tictactoe folder in the user's home directory.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     * @param winLength Number of marks in a row needed to win.
+     * @return The path of that configuration's leaderboard file.
+     */
+    public static Path defaultPath(int width, int height, int winLength) {
+        return Paths.get(System.getProperty("user.home"), ".tictactoe",
+                "leaderboard-" + width + "x" + height + "x" + winLength + ".bin");
+    }
+
+    /**
+     * Reads the saved totals.
+     *
+     * @return X wins, O wins and ties, or null if there is no valid file.
+     */
+    public long[] load() {
+        ByteBuffer buffer = ByteBuffer.allocate(FILE_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the fixed layout is filled or the file ends
+            }
+        } catch (NoSuchFileException e) {
+            return null; // first run
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+
+        if (buffer.hasRemaining() || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.getLong(CRC_OFFSET) != crc(buffer)) {
+            System.out.println("Ignoring damaged leaderboard file: " + path);
+            return null;
+        }
+        synchronized (this) {
+            sequence = buffer.getLong(8);
+        }
+        return new long[]{buffer.getLong(16), buffer.getLong(24), buffer.getLong(32)};
+    }
+
+    /**
+     * Adds the saved totals to a leaderboard.
+     *
+     * @param leaderboard The leaderboard to seed.
+     * @return true if saved totals were found.
+     */
+    public boolean loadInto(TicTacToeLeaderboard leaderboard) {
+        long[] totals = load();
+        if (totals == null) return false;
+        leaderboard.add(TicTacToeLeaderboard.Outcome.X_WIN, totals[0]);
+        leaderboard.add(TicTacToeLeaderboard.Outcome.O_WIN, totals[1]);
+        leaderboard.add(TicTacToeLeaderboard.Outcome.TIE, totals[2]);
+        return true;
+    }
+
+    /**
+     * Asks for the leaderboard to be saved soon on the background thread. Returns immediately; requests made
+     * before the pending save runs are folded into it.
+     *
+     * @param leaderboard The leaderboard to save.
+     */
+    public void requestSave(TicTacToeLeaderboard leaderboard) {
+        if (!savePending.compareAndSet(false, true)) return; // a save is already on its way
+        try {
+            writer.schedule(() -> {
+                savePending.set(false); // later requests need another write
+                saveQuietly(leaderboard.snapshot());
+            }, SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            savePending.set(false); // store closed
+        }
+    }
+
+    /**
+     * Writes totals to the file straight away, on the calling thread.
+     *
+     * @param totals X wins, O wins and ties.
+     * @throws IOException if the file cannot be written.
+     */
+    public synchronized void save(long[] totals) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(FILE_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(8, ++sequence);
+        buffer.putLong(16, totals[0]);
+        buffer.putLong(24, totals[1]);
+        buffer.putLong(32, totals[2]);
+        buffer.putLong(CRC_OFFSET, crc(buffer));
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(true); // contents are on disk before the rename makes them visible
+        }
+        try {
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void saveQuietly(long[] totals) {
+        try {
+            save(totals);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Waits for any pending save to finish and stops the background thread.
+     */
+    @Override
+    public void close() {
+        writer.shutdown(); // delayed saves still run after shutdown
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * CRC32 of every byte before the checksum field.
+     */
+    private static long crc(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < CRC_OFFSET; i++) crc.update(buffer.get(i));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Receives the changes TicTacToeLogic makes to a game, so a display, sound effects or a test can follow a game
+ * without the logic knowing about any of them. Events arrive on the thread that changed the game, after the change
+ * is complete, so the logic's getters already reflect it. Every method does nothing by default.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public interface TicTacToeListener
+{
+    /**
+     * Called after a move is placed, including moves by the computer and moves replayed by redo.
+     *
+     * @param cell The square index.
+     * @param player The player who moved, TicTacToeBoard.X or O.
+     */
+    default void movePlayed(int cell, int player) {}
+
+    /**
+     * Called after a move is taken off the board by undo or a jump back through the history.
+     *
+     * @param cell The square index.
+     * @param player The player whose mark was removed.
+     */
+    default void moveUndone(int cell, int player) {}
+
+    /**
+     * Called after the move that ended the game, once its result is on the leaderboard.
+     *
+     * @param winner TicTacToeBoard.X, O or TIE.
+     */
+    default void gameOver(int winner) {}
+
+    /**
+     * Called after the board is cleared for a new game, before any opening move by the computer.
+     */
+    default void boardCleared() {}
+}
@@ -0,0 +1,137 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load generator for TicTacToeServer. Opens one connection per concurrent game, plays random legal moves for both
+ * sides, and records the round trip time of every MOVE command. Prints p50 / p99 / p99.9 move latency and overall
+ * throughput when done.
+ *
+ * Usage: java TicTacToeLoadClient [host] [port] [concurrent games] [games per connection]
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeLoadClient
+{
+    private static final TicTacToeHistogram latency = new TicTacToeHistogram();
+    private static final AtomicLong gamesPlayed = new AtomicLong();
+    private static final AtomicLong failures = new AtomicLong();
+
+    private TicTacToeLoadClient() {}
+
+    /**
+     * Plays a number of games over one connection.
+     *
+     * @param host Server host.
+     * @param port Server port.
+     * @param games Games to play.
+     * @param seed Seed for this connection's random moves.
+     * @throws IOException if the connection fails or the server answers unexpectedly.
+     */
+    private static void playGames(String host, int port, int games, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        try (Socket socket = new Socket(host, port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+
+            String[] hello = expect(in.readLine(), "HELLO").split(" ");
+            int width = Integer.parseInt(hello[1]);
+            int height = Integer.parseInt(hello[2]);
+            int[] free = new int[width * height];
+
+            for (int game = 0; game < games; game++) {
+                send(out, "NEW");
+                expect(in.readLine(), "OK");
+
+                int count = free.length;
+                for (int i = 0; i < count; i++) free[i] = i;
+
+                String response;
+                do {
+                    int pick = random.nextInt(count);
+                    int cell = free[pick];
+                    free[pick] = free[--count];
+
+                    long start = System.nanoTime();
+                    send(out, "MOVE " + cell / width + " " + cell % width);
+                    response = in.readLine();
+                    latency.record(System.nanoTime() - start);
+                    if (response == null || !(response.startsWith("OK") || response.startsWith("WIN") || response.startsWith("TIE"))) {
+                        throw new IOException("Unexpected reply to MOVE: " + response);
+                    }
+                } while (response.startsWith("OK"));
+                gamesPlayed.incrementAndGet();
+            }
+
+            send(out, "QUIT");
+        }
+    }
+
+    private static void send(PrintWriter out, String line) {
+        out.print(line);
+        out.print('\n');
+        out.flush();
+    }
+
+    /**
+     * Checks that a response starts with the expected word.
+     */
+    private static String expect(String response, String word) throws IOException {
+        if (response == null || !response.startsWith(word)) {
+            throw new IOException("Expected " + word + " but server sent: " + response);
+        }
+        return response;
+    }
+
+    /**
+     * Runs the load test from the command line and prints the latency report.
+     *
+     * @param args [host] [port] [concurrent games] [games per connection]
+     * @throws InterruptedException if interrupted while waiting for the games.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : TicTacToeServer.DEFAULT_PORT;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        int gamesPerConnection = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        ExecutorService executor = TicTacToeServer.newPerTaskExecutor();
+        CountDownLatch done = new CountDownLatch(connections);
+        long start = System.nanoTime();
+        for (int i = 0; i < connections; i++) {
+            final long seed = i;
+            executor.execute(() -> {
+                try {
+                    playGames(host, port, gamesPerConnection, seed);
+                } catch (IOException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        System.out.println(connections + " concurrent games, " + gamesPlayed.get() + " games, "
+                + latency.getCount() + " moves in " + String.format("%.2f", seconds) + " s ("
+                + failures.get() + " failed connections)");
+        System.out.println(String.format("%,.0f moves/s, %,.0f games/s", latency.getCount() / seconds, gamesPlayed.get() / seconds));
+        System.out.println(String.format("Move latency: p50 %.1f us | p99 %.1f us | p99.9 %.1f us | max %.1f us",
+                latency.getPercentile(50) / 1e3, latency.getPercentile(99) / 1e3,
+                latency.getPercentile(99.9) / 1e3, latency.getMax() / 1e3));
+    }
+}
@@ -1,34 +1,99 @@
-import java.util.Dictionary;
-import java.util.Hashtable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Manages logic for a Tic Tac Toe game. This includes tracking the game board, the current player, the winner,
  * and a leaderboard tallying wins for X and O, as well as ties. Methods facilitate making moves, checking for a winner,
- * and resetting the board for a new game.
+ * and resetting the board for a new game. The board itself is held by a headless TicTacToeGrid, so the same logic runs
+ * classic 3x3 games and larger m,n,k variants. Displays, sounds and tests follow the game through TicTacToeListeners,
+ * so the logic itself never touches Swing and runs the same with or without a window. A Zobrist key of the board is
+ * kept up to date with one XOR per move and handed to the computer player, so its solver looks positions up in the
+ * transposition table without hashing the board again.
  *
  * @author Ethan Ashworth
  * @version April-6th-2024
+ * @version October-16th-2026
  */
 public class TicTacToeLogic
 {
+    public static final long COMPUTER_MOVE_MS = 100; // search time for the computer on boards larger than 3x3
+    public static final int SOLVER_SQUARES = 16; // free squares left when the computer starts trying exact solves
+    public static final long SOLVER_NODES = 20_000; // positions a solve may visit before the computer falls back to MCTS
+
     // Class instance variables
-    private TicTacToeButton[][] buttons;
-    private int numFreeSquares = 9;
-    private String player = "X";
-    private String winner = " ";
-    private Dictionary<String, Integer> leaderboard;
+    private TicTacToeGrid grid;
+    private final TicTacToeZobrist zobrist;
+    private long zobristKey; // hash of the current board, updated by every move
+    private final boolean classic; // 3x3 board, also kept as a packed TicTacToeBoard position
+    private int position = TicTacToeBoard.EMPTY_POSITION; // packed board, updated by every move when classic
+    private int player = TicTacToeBoard.X;
+    private int winner = TicTacToeBoard.EMPTY;
+    private int computer = TicTacToeBoard.EMPTY; // player controlled by the computer, EMPTY for two humans
+    private TicTacToePlayer computerPlayer; // picks the computer's moves, created on first use
+    private boolean computerDeferred; // the computer's moves are searched and played by the caller, e.g. TicTacToePipeline
+    private TicTacToeLeaderboard leaderboard;
+    private TicTacToeGameLog gameLog; // records every move when set
+    private long gameId;
+    private final List<TicTacToeListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Move history: moves[0..ply) are on the board, moves[ply..historyLength) were undone and can be redone
+    private final int[] moves;
+    private int ply;
+    private int historyLength;
+
+    /**
+     * Constructor initializes a headless 3x3 game with an empty board and leaderboard. Nothing is displayed until a
+     * listener is added, so games can be simulated without a window.
+     */
+    public TicTacToeLogic() {
+        this(TicTacToeBoard.SIZE, TicTacToeBoard.SIZE, TicTacToeBoard.SIZE);
+    }
+
+    /**
+     * Constructor initializes a headless m,n,k game with an empty board and leaderboard.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     * @param winLength Number of marks in a row needed to win.
+     */
+    public TicTacToeLogic(int width, int height, int winLength) {
+        this(width, height, winLength, new TicTacToeLeaderboard());
+    }
+
+    /**
+     * Constructor initializes a headless m,n,k game with an empty board, recording results on a leaderboard that
+     * may be shared with other games.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     * @param winLength Number of marks in a row needed to win.
+     * @param leaderboard The leaderboard to record results on.
+     */
+    public TicTacToeLogic(int width, int height, int winLength, TicTacToeLeaderboard leaderboard) {
+        this.grid = new TicTacToeGrid(width, height, winLength);
+        this.zobrist = TicTacToeZobrist.forSize(width, height);
+        this.classic = grid.isClassic();
+        this.leaderboard = leaderboard;
+        this.moves = new int[grid.getCellCount()];
+    }
+
+    /**
+     * Registers a listener for moves, results and new games.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(TicTacToeListener listener) {
+        listeners.add(listener);
+    }
 
     /**
-     * Constructor initializes the game with an empty board and leaderboard.
+     * Unregisters a listener.
      *
-     * @param buttons The 3x3 array of TicTacToeButton representing the game board.
+     * @param listener The listener.
      */
-    public TicTacToeLogic(TicTacToeButton[][] buttons) {
-        this.buttons = buttons;
-        leaderboard = new Hashtable<>();
-        leaderboard.put("X", 0); // adds X to Leaderboard
-        leaderboard.put("O", 0); // adds O to Leaderboard
-        leaderboard.put("T", 0); // adds T to Leaderboard
+    public void removeListener(TicTacToeListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -36,93 +101,263 @@ public class TicTacToeLogic
      * the current player to X, and the winner to a blank state.
      */
     public void clearBoard() {
-        for (int i = 0; i < 3; i++) {
-            buttons[i][0].setValue(" "); buttons[i][1].setValue(" "); buttons[i][2].setValue(" ");
+        if (gameLog != null) {
+            logEvent(true, false, 0); // marks the end of the game with its result
+            if (gameLog != null) gameId = gameLog.nextGameId();
         }
 
-        numFreeSquares = 9;
-        player = "X";
-        winner = " ";
+        grid.clear();
+        zobristKey = 0;
+        position = TicTacToeBoard.EMPTY_POSITION;
+        player = TicTacToeBoard.X;
+        winner = TicTacToeBoard.EMPTY;
+        ply = 0;
+        historyLength = 0;
+        for (TicTacToeListener listener : listeners) listener.boardCleared();
+
+        playComputerMove(); // computer opens if it plays X
     }
 
     /**
-     * Checks if the current move by a player results in a win by checking rows, columns, and diagonals.
+     * Checks if the current move by a player results in a win by scanning outward from it along the row, column,
+     * and both diagonals. A classic board tests the packed win lines through the square instead.
      *
      * @param row The row of the last move.
      * @param col The column of the last move.
      * @return true if the move results in a win; false otherwise.
      */
     public boolean haveWinner(int row, int col) {
-        String currentMark = buttons[row][col].getValue();
-        if (currentMark.equals(" ")) return false; // Ignore empty buttons
-
-        // Check row
-        if (currentMark.equals(buttons[row][0].getValue()) &&
-                currentMark.equals(buttons[row][1].getValue()) &&
-                currentMark.equals(buttons[row][2].getValue())) {
-            return true;
-        }
-
-        // Check Column
-        if (currentMark.equals(buttons[0][col].getValue()) &&
-                currentMark.equals(buttons[1][col].getValue()) &&
-                currentMark.equals(buttons[2][col].getValue())) {
-            return true;
-        }
-
-        // Check first diagonal
-        if (row == col) {
-            if (currentMark.equals(buttons[0][0].getValue()) &&
-                    currentMark.equals(buttons[1][1].getValue()) &&
-                    currentMark.equals(buttons[2][2].getValue())) {
-                return true;
-            }
-        }
-
-        // Check other diagonal
-        if (row == 2 - col) {
-            if (currentMark.equals(buttons[0][2].getValue()) &&
-                    currentMark.equals(buttons[1][1].getValue()) &&
-                    currentMark.equals(buttons[2][0].getValue())) {
-                return true;
-            }
-        }
-
-        return false;
+        long start = TicTacToeMetrics.start();
+        int cell = grid.cell(row, col);
+        boolean win = classic ? TicTacToeBoard.isWinningMove(position, cell) : grid.isWinningMove(cell);
+        TicTacToeMetrics.stop(TicTacToeMetrics.Probe.WIN_CHECK, start);
+        return win;
     }
 
     /**
      * Makes a move on the game board at the specified row and column, updates the game state,
-     * checks for a win or tie, and updates the leaderboard accordingly.
+     * checks for a win or tie, and updates the leaderboard accordingly. Any undone moves can no longer be redone.
      *
      * @param row The row where the move is made.
      * @param col The column where the move is made.
      */
     public void makeMove(int row, int col) {
-        if (!buttons[row][col].getValue().equals(" ") || !winner.equals(" ")) return; // Ignore if already marked or game over
+        int cell = grid.cell(row, col);
+        if (!grid.isFree(cell) || winner != TicTacToeBoard.EMPTY) return; // Ignore if already marked or game over
+        long start = TicTacToeMetrics.start();
+
+        historyLength = ply; // a new move replaces the undone ones
+        play(cell);
+        playComputerMove(); // answers the human's move if the computer is next
+        TicTacToeMetrics.stop(TicTacToeMetrics.Probe.MOVE, start);
+    }
 
-        buttons[row][col].setValue(player); // sets button value to the player who is moving
-        numFreeSquares--; // subtracts from free square count
+    /**
+     * Plays a move for the current player and pushes it on the move history. The square must be free and the game
+     * not over.
+     *
+     * @param cell The square index.
+     */
+    private void play(int cell) {
+        int mover = player;
+        moves[ply++] = cell;
+        if (ply > historyLength) historyLength = ply;
+
+        grid.place(cell, mover); // marks square for the player who is moving
+        zobristKey ^= zobrist.key(cell, mover);
+        if (classic) position = TicTacToeBoard.play(position, cell, mover);
+        if (gameLog != null) logEvent(false, false, cell);
 
         // after move is made, checks for a winner
-        if (haveWinner(row, col)) {
+        if (haveWinner(cell / grid.getWidth(), cell % grid.getWidth())) {
             // if winner is found, ends game with winner
-            winner = player;
-            updateLeaderboard(winner);
-            TicTacToeUI.playSound("WIN");
-            TicTacToeUI.showWinAnimation(winner);
-
-        } else if (numFreeSquares == 0) {
+            winner = mover;
+            updateLeaderboard(getWinner());
+        } else if (grid.getFreeSquares() == 0) {
             // if no empty squares remain, ends game with tie
-            winner = "T";
-            updateLeaderboard(winner);
-            TicTacToeUI.playSound("TIE");
-            TicTacToeUI.showWinAnimation(winner);
-
+            winner = TicTacToeBoard.TIE;
+            updateLeaderboard(getWinner());
         } else {
             // if game is not over, switches to next player
-            player = player.equals("X") ? "O" : "X";
+            player = TicTacToeBoard.opponent(mover);
+        }
+
+        for (TicTacToeListener listener : listeners) listener.movePlayed(cell, mover);
+        if (winner != TicTacToeBoard.EMPTY) {
+            for (TicTacToeListener listener : listeners) listener.gameOver(winner);
+        }
+    }
+
+    /**
+     * Takes the last move off the board, the exact reverse of play(). If it had ended the game, the result is taken
+     * off the leaderboard again.
+     */
+    private void unplay() {
+        int cell = moves[--ply];
+        if (winner != TicTacToeBoard.EMPTY) {
+            leaderboard.add(TicTacToeLeaderboard.Outcome.of(winner), -1); // the result no longer stands
+            winner = TicTacToeBoard.EMPTY;
+        }
+        player = grid.get(cell); // the player who made the move is to move again
+        grid.remove(cell);
+        zobristKey ^= zobrist.key(cell, player);
+        if (classic) position = TicTacToeBoard.undo(position, cell);
+        if (gameLog != null) logEvent(false, true, cell);
+        for (TicTacToeListener listener : listeners) listener.moveUndone(cell, player);
+    }
+
+    /**
+     * Takes back the last move. When playing the computer, its reply is taken back too, so the human is to move again.
+     *
+     * @return true if a move was taken back; false if there was none.
+     */
+    public boolean undo() {
+        if (ply == 0) return false;
+        do {
+            unplay();
+        } while (ply > 0 && player == computer);
+        playComputerMove(); // only moves if the computer opened the game and everything was taken back
+        return true;
+    }
+
+    /**
+     * Replays the last move taken back. When playing the computer, its reply is replayed too.
+     *
+     * @return true if a move was replayed; false if there was none.
+     */
+    public boolean redo() {
+        if (ply == historyLength) return false;
+        do {
+            play(moves[ply]);
+        } while (ply < historyLength && winner == TicTacToeBoard.EMPTY && player == computer);
+        return true;
+    }
+
+    /**
+     * Moves through the history to the position after a given number of moves, undoing or redoing moves one at a
+     * time. The computer does not move afterwards.
+     *
+     * @param target The number of moves to have on the board, from 0 to getHistoryLength().
+     * @throws IllegalArgumentException if the history does not have that many moves.
+     */
+    public void jumpToPly(int target) {
+        if (target < 0 || target > historyLength) {
+            throw new IllegalArgumentException("No ply " + target + " in a history of " + historyLength + " moves");
+        }
+        while (ply > target) unplay();
+        while (ply < target) play(moves[ply]);
+    }
+
+    /**
+     * Returns the number of moves on the board.
+     *
+     * @return The current ply.
+     */
+    public int getPly() {
+        return ply;
+    }
+
+    /**
+     * Returns the number of moves in the history, including moves taken back that can still be redone.
+     *
+     * @return The history length.
+     */
+    public int getHistoryLength() {
+        return historyLength;
+    }
+
+    /**
+     * Writes a move or game boundary to the game log. If the log fails it is dropped, so a full disk stops the
+     * logging but not the game.
+     *
+     * @param boundary true to record the end of the game, false to record the move just made or taken back.
+     * @param takeBack true to record the move just taken back.
+     * @param cell The square of the move.
+     */
+    private void logEvent(boolean boundary, boolean takeBack, int cell) {
+        try {
+            if (boundary) {
+                gameLog.appendGameEnd(gameId, winner);
+            } else if (takeBack) {
+                gameLog.appendTakeBack(gameId, ply, cell);
+            } else {
+                gameLog.appendMove(gameId, grid.getCellCount() - grid.getFreeSquares() - 1, cell, player);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            gameLog = null;
+        }
+    }
+
+    /**
+     * Records every move of this and later games, every move taken back by undo or jumpToPly, and each clearBoard as a
+     * game boundary, in a game log.
+     *
+     * @param gameLog The log to append to, or null to stop logging.
+     * @throws IllegalArgumentException if the board has more squares than the log can record.
+     */
+    public void setGameLog(TicTacToeGameLog gameLog) {
+        if (gameLog != null && grid.getCellCount() > TicTacToeGameLog.MAX_CELLS) {
+            throw new IllegalArgumentException("Board too large to log: " + grid.getCellCount() + " squares");
         }
+        this.gameLog = gameLog;
+        if (gameLog != null) gameId = gameLog.nextGameId();
+    }
+
+    /**
+     * Makes the computer's move if a computer opponent is set and it is its turn, using TicTacToePlayer.computer():
+     * the opening book, TicTacToeAI on the classic game, TicTacToeSolver near the end of larger games and
+     * TicTacToeMCTS within COMPUTER_MOVE_MS otherwise. Does nothing while the computer's moves are deferred.
+     */
+    private void playComputerMove() {
+        if (computerDeferred || !isComputerToMove()) return;
+
+        long start = TicTacToeMetrics.start();
+        if (computerPlayer == null) computerPlayer = TicTacToePlayer.computer(COMPUTER_MOVE_MS);
+        int cell = computerPlayer.chooseMove(grid, player, zobristKey);
+        TicTacToeMetrics.stop(TicTacToeMetrics.Probe.AI_SEARCH, start);
+        if (cell >= 0) makeMove(cell / grid.getWidth(), cell % grid.getWidth());
+    }
+
+    /**
+     * Returns whether the computer is to move: a computer opponent is set, it is its turn and the game is not over.
+     *
+     * @return true if the next move is the computer's.
+     */
+    public boolean isComputerToMove() {
+        return computer != TicTacToeBoard.EMPTY && player == computer && winner == TicTacToeBoard.EMPTY;
+    }
+
+    /**
+     * Stops the logic from searching for the computer's moves itself. While deferred, the caller checks
+     * isComputerToMove() after each change, searches a copy of the board on another thread and plays the answer with
+     * makeMove(). Undo and redo still take back and replay the computer's replies with the human's moves.
+     *
+     * @param deferred true to leave the computer's moves to the caller; false to play them inline (the default).
+     */
+    public void setComputerDeferred(boolean deferred) {
+        computerDeferred = deferred;
+        playComputerMove();
+    }
+
+    /**
+     * Sets which player is controlled by the computer. If it is already that player's turn, the computer moves
+     * immediately.
+     *
+     * @param symbol "X" or "O" for the computer's player, or " " for a two player game.
+     */
+    public void setComputerPlayer(String symbol) {
+        computer = TicTacToeBoard.valueOf(symbol);
+        playComputerMove();
+    }
+
+    /**
+     * Returns the player controlled by the computer.
+     *
+     * @return "X" or "O", or " " if both players are human.
+     */
+    public String getComputerPlayer() {
+        return TicTacToeBoard.symbol(computer);
     }
 
     /**
@@ -131,16 +366,57 @@ public class TicTacToeLogic
      * @return The current player's symbol.
      */
     public String getCurrentPlayer() {
-        return player;
+        return TicTacToeBoard.symbol(player);
     }
 
     /**
      * Gets the winner of the game if one exists.
      *
-     * @return The winner's symbol ("X" or "O") or " " if there's no winner yet.
+     * @return The winner's symbol ("X" or "O"), "T" for a tie, or " " if there's no winner yet.
      */
     public String getWinner() {
-        return winner;
+        return TicTacToeBoard.symbol(winner);
+    }
+
+    /**
+     * Returns the board being played on.
+     *
+     * @return The game's TicTacToeGrid.
+     */
+    public TicTacToeGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Returns the Zobrist hash of the current board, as TicTacToeZobrist.hash() would compute it. It is maintained
+     * incrementally by moves, undo, redo and clearBoard, so reading it is O(1) whatever the board size. Changing the
+     * board through getGrid() directly is not tracked.
+     *
+     * @return The 64-bit key.
+     */
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    /**
+     * Returns the Zobrist keys the board is hashed with, shared by every board of this size.
+     *
+     * @return The keys.
+     */
+    public TicTacToeZobrist getZobrist() {
+        return zobrist;
+    }
+
+    /**
+     * Returns the current board as a packed TicTacToeBoard position. A classic board keeps the position up to date
+     * with every move, so this is a field read; other 3x3 boards are packed on each call.
+     *
+     * @return The packed position.
+     * @throws IllegalArgumentException if the board is not 3x3.
+     */
+    public int getPosition() {
+        if (classic) return position;
+        return TicTacToeBoard.pack(grid);
     }
 
     /**
@@ -149,7 +425,7 @@ public class TicTacToeLogic
      * @param Winner The symbol of the winner ("X", "O", or "T" for a tie).
      */
     public void updateLeaderboard(String Winner) {
-        leaderboard.put(Winner, (int)(leaderboard.get(Winner)+1));
+        leaderboard.record(TicTacToeLeaderboard.Outcome.of(Winner));
     }
 
     /**
@@ -158,7 +434,17 @@ public class TicTacToeLogic
      * @return An array of int containing the scores for X wins, O wins, and ties, in that order.
      */
     public int[] getLeaderboard(){
-        return new int[]{leaderboard.get("X"), leaderboard.get("O"), leaderboard.get("T")}; // returns Leaderboard values as array of ints.
+        long[] scores = leaderboard.snapshot();
+        return new int[]{(int) scores[0], (int) scores[1], (int) scores[2]}; // returns Leaderboard values as array of ints.
+    }
+
+    /**
+     * Returns the leaderboard results are recorded on, e.g. to share it with other games or read per-player tallies.
+     *
+     * @return The game's TicTacToeLeaderboard.
+     */
+    public TicTacToeLeaderboard getScores() {
+        return leaderboard;
     }
 
 }
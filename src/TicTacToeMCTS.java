@@ -0,0 +1,428 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monte Carlo Tree Search (UCT) player for m,n,k boards too large to solve outright. Worker threads share one search
+ * tree (tree parallelism) and spread out with a virtual loss: a node's visit count goes up as soon as a thread
+ * descends through it, making it look worse to the others until the playout result arrives. Nodes live in a flat
+ * arena of primitive arrays rather than one object per node, so a search allocates nothing per node and the arena
+ * is reused from move to move. Each search runs until a time budget or a playout budget runs out, or until the
+ * thread calling bestMove() is interrupted; either way every worker has left the tree before it is read or reset.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeMCTS implements AutoCloseable
+{
+    public static final int DEFAULT_MAX_NODES = 1 << 20;
+
+    private static final double EXPLORATION = 1.0; // UCT exploration constant, rewards are in [0, 1]
+    private static final int NEIGHBOURHOOD = 2;     // on large boards only squares this close to a mark are tried
+    private static final int SMALL_BOARD = 25;      // boards up to this many squares try every free square
+
+    // Node expansion states
+    private static final int LEAF = 0;
+    private static final int EXPANDING = 1;
+    private static final int EXPANDED = 2;
+
+    // Node arena, indexed by node number; node 0 is the root
+    private final int maxNodes;
+    private final int[] move;          // square played to reach the node
+    private final int[] firstChild;    // index of the first child, children are contiguous
+    private final int[] childCount;
+    private final AtomicIntegerArray visits;  // playouts through the node, including ones still running
+    private final AtomicIntegerArray score;   // 2 per win and 1 per draw for the player who moved into the node
+    private final AtomicIntegerArray state;   // LEAF, EXPANDING or EXPANDED
+    private final AtomicInteger nodeCount = new AtomicInteger();
+
+    private final int threads;
+    private final ExecutorService workers;
+    private final AtomicLong playouts = new AtomicLong();
+    private volatile long playoutLimit;
+    private volatile boolean stopped; // set to end the current search's workers early
+    private volatile double lastPlayoutsPerSecond;
+
+    /**
+     * Constructor for a search using every core and the default arena size.
+     */
+    public TicTacToeMCTS() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_NODES);
+    }
+
+    /**
+     * Constructor for a search with a given number of threads and arena size.
+     *
+     * @param threads Number of worker threads sharing the tree.
+     * @param maxNodes Maximum number of tree nodes.
+     */
+    public TicTacToeMCTS(int threads, int maxNodes) {
+        this.threads = Math.max(1, threads);
+        this.maxNodes = maxNodes;
+        move = new int[maxNodes];
+        firstChild = new int[maxNodes];
+        childCount = new int[maxNodes];
+        visits = new AtomicIntegerArray(maxNodes);
+        score = new AtomicIntegerArray(maxNodes);
+        state = new AtomicIntegerArray(maxNodes);
+        workers = Executors.newFixedThreadPool(this.threads, runnable -> {
+            Thread thread = new Thread(runnable, "mcts-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Searches for the best move. Stops when either budget is used up; a budget of 0 means no limit on that
+     * measure, but at least one must be set.
+     *
+     * @param grid The current board; it is not modified.
+     * @param player The player to move, TicTacToeBoard.X or O.
+     * @param timeBudgetMs Time to search for, in milliseconds.
+     * @param playoutBudget Number of playouts to run.
+     * @return The square index to play, or -1 if the board is full.
+     */
+    public synchronized int bestMove(TicTacToeGrid grid, int player, long timeBudgetMs, long playoutBudget) {
+        if (timeBudgetMs <= 0 && playoutBudget <= 0) throw new IllegalArgumentException("No search budget given");
+        if (grid.getFreeSquares() == 0) return -1;
+        playouts.set(0);
+        lastPlayoutsPerSecond = 0;
+
+        // Winning now, or stopping the opponent winning next move, needs no search
+        int forced = forcedMove(grid, player);
+        if (forced >= 0) return forced;
+
+        long start = System.nanoTime();
+        long deadline = timeBudgetMs > 0 ? start + timeBudgetMs * 1_000_000L : Long.MAX_VALUE;
+        long maxPlayouts = playoutBudget > 0 ? playoutBudget : Long.MAX_VALUE;
+        playoutLimit = maxPlayouts;
+        stopped = false;
+
+        // Fresh tree: only the root, expanded straight away
+        TicTacToeGrid rootGrid = new TicTacToeGrid(grid);
+        nodeCount.set(1);
+        initNode(0, -1);
+        visits.set(0, 1);
+        state.set(0, EXPANDING);
+        expand(0, rootGrid);
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final long seed = start + i;
+            tasks.add(() -> {
+                search(new TicTacToeGrid(grid), player, deadline, maxPlayouts, new SplittableRandom(seed));
+                return null;
+            });
+        }
+        List<Future<Void>> results = new ArrayList<>();
+        for (Callable<Void> task : tasks) results.add(workers.submit(task));
+
+        // Wait for every worker even when interrupted or failing: the tree must not be read or reused under them
+        boolean interrupted = false;
+        Throwable failure = null;
+        for (Future<Void> result : results) {
+            while (true) {
+                try {
+                    result.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    stopped = true; // the caller gave up on this search; the workers stop at their next playout
+                } catch (ExecutionException e) {
+                    if (failure == null) failure = e.getCause();
+                    stopped = true;
+                    break;
+                }
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        if (failure != null) throw new IllegalStateException("Search failed", failure);
+
+        double seconds = Math.max(1e-9, (System.nanoTime() - start) / 1e9);
+        lastPlayoutsPerSecond = playouts.get() / seconds;
+
+        // Most visited child is the most trusted move
+        int best = -1;
+        int bestVisits = -1;
+        for (int c = firstChild[0]; c < firstChild[0] + childCount[0]; c++) {
+            if (visits.get(c) > bestVisits) {
+                bestVisits = visits.get(c);
+                best = move[c];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the number of playouts run by the last search.
+     *
+     * @return The playout count.
+     */
+    public long getLastPlayouts() {
+        return Math.min(playouts.get(), playoutLimit);
+    }
+
+    /**
+     * Returns the playout rate of the last search, across all threads.
+     *
+     * @return Playouts per second.
+     */
+    public double getLastPlayoutsPerSecond() {
+        return lastPlayoutsPerSecond;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * One worker's search loop: select down the shared tree, expand, play out at random, back the result up.
+     */
+    private void search(TicTacToeGrid grid, int rootPlayer, long deadline, long maxPlayouts, SplittableRandom random) {
+        int cells = grid.getCellCount();
+        int[] path = new int[cells + 1];
+        int[] played = new int[cells];
+        int[] free = new int[cells];
+
+        while (!stopped && System.nanoTime() < deadline && playouts.getAndIncrement() < maxPlayouts) {
+            int node = 0;
+            int length = 0;
+            int depth = 0;
+            int player = rootPlayer;
+            int winner = TicTacToeBoard.EMPTY;
+            path[length++] = node;
+            visits.incrementAndGet(node);
+
+            // Selection: follow UCT through expanded nodes
+            while (true) {
+                int nodeState = state.get(node);
+                if (nodeState != EXPANDED) {
+                    // Expand a leaf on its second visit; a leaf another thread is expanding is played out as is
+                    if (nodeState == LEAF && visits.get(node) > 1 && state.compareAndSet(node, LEAF, EXPANDING)) {
+                        expand(node, grid);
+                    } else {
+                        break;
+                    }
+                }
+                if (childCount[node] == 0) break; // arena full or no candidate squares
+
+                int child = select(node, random);
+                visits.incrementAndGet(child); // virtual loss until the result is backed up
+                int cell = move[child];
+                grid.place(cell, player);
+                played[depth++] = cell;
+                path[length++] = child;
+                node = child;
+
+                if (grid.isWinningMove(cell)) {
+                    winner = player;
+                    break;
+                }
+                if (grid.getFreeSquares() == 0) {
+                    winner = TicTacToeBoard.TIE;
+                    break;
+                }
+                player = TicTacToeBoard.opponent(player);
+            }
+
+            // Simulation: random moves to the end of the game
+            if (winner == TicTacToeBoard.EMPTY) {
+                int count = 0;
+                for (int cell = 0; cell < cells; cell++) {
+                    if (grid.isFree(cell)) free[count++] = cell;
+                }
+                while (true) {
+                    if (count == 0) {
+                        winner = TicTacToeBoard.TIE;
+                        break;
+                    }
+                    int pick = random.nextInt(count);
+                    int cell = free[pick];
+                    free[pick] = free[--count];
+                    grid.place(cell, player);
+                    played[depth++] = cell;
+                    if (grid.isWinningMove(cell)) {
+                        winner = player;
+                        break;
+                    }
+                    player = TicTacToeBoard.opponent(player);
+                }
+            }
+
+            // Backpropagation: score each node for the player who moved into it
+            int mover = TicTacToeBoard.opponent(rootPlayer);
+            for (int i = 0; i < length; i++) {
+                int reward = winner == TicTacToeBoard.TIE ? 1 : winner == mover ? 2 : 0;
+                if (reward != 0) score.addAndGet(path[i], reward);
+                mover = TicTacToeBoard.opponent(mover);
+            }
+
+            // Unmake every move to get back to the root position
+            while (depth > 0) grid.remove(played[--depth]);
+        }
+    }
+
+    /**
+     * Picks the child with the highest UCT value, trying unvisited children first.
+     */
+    private int select(int node, SplittableRandom random) {
+        int first = firstChild[node];
+        int count = childCount[node];
+        double logVisits = Math.log(Math.max(1, visits.get(node)));
+
+        int best = first;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        int offset = random.nextInt(count); // start at a random child so threads spread over unvisited ones
+        for (int i = 0; i < count; i++) {
+            int child = first + (i + offset) % count;
+            int n = visits.get(child);
+            if (n == 0) return child;
+
+            double value = score.get(child) / (2.0 * n) + EXPLORATION * Math.sqrt(logVisits / n);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Adds a node's children for the candidate squares in the given position, then publishes them. Must be called
+     * by the thread that moved the node to EXPANDING.
+     */
+    private void expand(int node, TicTacToeGrid grid) {
+        int cells = grid.getCellCount();
+        int candidates = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            if (isCandidate(grid, cell)) candidates++;
+        }
+        if (candidates == 0 && grid.getFreeSquares() > 0) {
+            candidates = -1; // empty large board: open in the centre
+        }
+
+        int count = candidates < 0 ? 1 : candidates;
+        int first = nodeCount.getAndAdd(count);
+        if (first + count > maxNodes) {
+            childCount[node] = 0; // arena full, the node stays a leaf
+            state.set(node, EXPANDED);
+            return;
+        }
+
+        if (candidates < 0) {
+            initNode(first, grid.cell(grid.getHeight() / 2, grid.getWidth() / 2));
+        } else {
+            int child = first;
+            for (int cell = 0; cell < cells; cell++) {
+                if (isCandidate(grid, cell)) initNode(child++, cell);
+            }
+        }
+        firstChild[node] = first;
+        childCount[node] = count;
+        state.set(node, EXPANDED); // publishes the children to other threads
+    }
+
+    /**
+     * Checks whether a square is worth searching: any free square on small boards, only squares near an existing
+     * mark on large ones.
+     */
+    private static boolean isCandidate(TicTacToeGrid grid, int cell) {
+        if (!grid.isFree(cell)) return false;
+        if (grid.getCellCount() <= SMALL_BOARD) return true;
+
+        int width = grid.getWidth();
+        int row = cell / width;
+        int col = cell % width;
+        for (int r = Math.max(0, row - NEIGHBOURHOOD); r <= Math.min(grid.getHeight() - 1, row + NEIGHBOURHOOD); r++) {
+            for (int c = Math.max(0, col - NEIGHBOURHOOD); c <= Math.min(width - 1, col + NEIGHBOURHOOD); c++) {
+                if (grid.get(r, c) != TicTacToeBoard.EMPTY) return true;
+            }
+        }
+        return false;
+    }
+
+    private void initNode(int node, int cell) {
+        move[node] = cell;
+        firstChild[node] = 0;
+        childCount[node] = 0;
+        visits.set(node, 0);
+        score.set(node, 0);
+        state.set(node, LEAF);
+    }
+
+    /**
+     * Finds a square that wins immediately, or failing that one that blocks the opponent's immediate win.
+     *
+     * @return The square, or -1 if there is none.
+     */
+    private static int forcedMove(TicTacToeGrid grid, int player) {
+        int block = -1;
+        int opponent = TicTacToeBoard.opponent(player);
+        for (int cell = 0; cell < grid.getCellCount(); cell++) {
+            if (!grid.isFree(cell)) continue;
+
+            grid.place(cell, player);
+            boolean wins = grid.isWinningMove(cell);
+            grid.remove(cell);
+            if (wins) return cell;
+
+            if (block < 0) {
+                grid.place(cell, opponent);
+                if (grid.isWinningMove(cell)) block = cell;
+                grid.remove(cell);
+            }
+        }
+        return block;
+    }
+
+    /**
+     * Plays a game between two searches from the command line and prints the playout rate of each move.
+     *
+     * @param args [width height winLength] [milliseconds per move]
+     */
+    public static void main(String[] args) {
+        int width = args.length > 0 ? Integer.parseInt(args[0]) : 15;
+        int height = args.length > 1 ? Integer.parseInt(args[1]) : width;
+        int winLength = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        long moveMs = args.length > 3 ? Long.parseLong(args[3]) : 100;
+
+        TicTacToeGrid grid = new TicTacToeGrid(width, height, winLength);
+        int player = TicTacToeBoard.X;
+        long totalPlayouts = 0;
+        double totalSeconds = 0;
+        try (TicTacToeMCTS mcts = new TicTacToeMCTS()) {
+            while (true) {
+                long start = System.nanoTime();
+                int cell = mcts.bestMove(grid, player, moveMs, 0);
+                totalSeconds += (System.nanoTime() - start) / 1e9;
+                totalPlayouts += mcts.getLastPlayouts();
+                grid.place(cell, player);
+                System.out.println(TicTacToeBoard.symbol(player) + " plays " + cell / width + "," + cell % width
+                        + String.format("  (%,.0f playouts/s)", mcts.getLastPlayoutsPerSecond()));
+
+                if (grid.isWinningMove(cell)) {
+                    System.out.println(TicTacToeBoard.symbol(player) + " wins");
+                    break;
+                }
+                if (grid.getFreeSquares() == 0) {
+                    System.out.println("Tie game");
+                    break;
+                }
+                player = TicTacToeBoard.opponent(player);
+            }
+        }
+        System.out.println(String.format("Average: %,.0f playouts/s", totalPlayouts / Math.max(1e-9, totalSeconds)));
+    }
+}
@@ -0,0 +1,379 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Built-in instrumentation for the game. Each probe (move handling, win checks, AI search, sound playback and
+ * animation frames) keeps a call count and a TicTacToeHistogram of its latency, and also emits a custom JFR event
+ * when a flight recording is running and the JVM has JFR. Everything can be read over JMX under
+ * tictactoe:type=Metrics, e.g. from JConsole or Mission Control.
+ *
+ * Probes cost a nanoTime call and a histogram increment, so they are off unless the JVM is started with
+ * -Dtictactoe.metrics=true, turned on over JMX, or turned on by the UI's debug overlay. While off, start() returns
+ * straight away and stop() does nothing.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public final class TicTacToeMetrics
+{
+    /**
+     * The instrumented operations.
+     */
+    public enum Probe
+    {
+        MOVE, WIN_CHECK, AI_SEARCH, SOUND, ANIMATION
+    }
+
+    /**
+     * Management interface exported over JMX.
+     */
+    public interface MetricsMXBean
+    {
+        /**
+         * @return true while probes are recording.
+         */
+        boolean isEnabled();
+
+        /**
+         * @param enabled true to start recording, false to stop.
+         */
+        void setEnabled(boolean enabled);
+
+        /**
+         * @return Move handling statistics (TicTacToeLogic.makeMove, including any computer reply).
+         */
+        ProbeStats getMove();
+
+        /**
+         * @return Win check statistics.
+         */
+        ProbeStats getWinCheck();
+
+        /**
+         * @return Computer move search statistics.
+         */
+        ProbeStats getAiSearch();
+
+        /**
+         * @return Sound playback statistics.
+         */
+        ProbeStats getSound();
+
+        /**
+         * @return Win animation frame statistics.
+         */
+        ProbeStats getAnimation();
+
+        /**
+         * @return Events waiting on the EDT, or -1 if the queue is not being counted.
+         */
+        int getEdtQueueDepth();
+
+        /**
+         * @return How long each phase of loading the UI's assets took, or an empty string before they have loaded.
+         */
+        String getStartupTimings();
+
+        /**
+         * Clears every probe's statistics.
+         */
+        void reset();
+    }
+
+    /**
+     * Snapshot of one probe, in microseconds. Exposed over JMX as composite data.
+     */
+    public static class ProbeStats
+    {
+        private final long count;
+        private final double meanMicros;
+        private final double p50Micros;
+        private final double p99Micros;
+        private final double p999Micros;
+        private final double maxMicros;
+        private final double lastMicros;
+
+        ProbeStats(TicTacToeHistogram latency, long last) {
+            count = latency.getCount();
+            meanMicros = latency.getMean() / 1e3;
+            p50Micros = latency.getPercentile(50) / 1e3;
+            p99Micros = latency.getPercentile(99) / 1e3;
+            p999Micros = latency.getPercentile(99.9) / 1e3;
+            maxMicros = latency.getMax() / 1e3;
+            lastMicros = last / 1e3;
+        }
+
+        /** @return Number of calls recorded. */
+        public long getCount() { return count; }
+
+        /** @return Mean latency. */
+        public double getMeanMicros() { return meanMicros; }
+
+        /** @return Median latency. */
+        public double getP50Micros() { return p50Micros; }
+
+        /** @return 99th percentile latency. */
+        public double getP99Micros() { return p99Micros; }
+
+        /** @return 99.9th percentile latency. */
+        public double getP999Micros() { return p999Micros; }
+
+        /** @return Largest latency. */
+        public double getMaxMicros() { return maxMicros; }
+
+        /** @return Latency of the most recent call. */
+        public double getLastMicros() { return lastMicros; }
+    }
+
+    public static final String OBJECT_NAME = "tictactoe:type=Metrics";
+
+    private static final long OFF = Long.MIN_VALUE; // start() result while disabled
+    private static final Probe[] PROBES = Probe.values();
+    private static final TicTacToeHistogram[] LATENCY = new TicTacToeHistogram[PROBES.length];
+    private static final AtomicLongArray LAST = new AtomicLongArray(PROBES.length);
+    private static final boolean JFR = jfrAvailable();
+    private static final AtomicInteger EDT_QUEUE_DEPTH = new AtomicInteger(-1);
+
+    private static volatile boolean enabled = Boolean.getBoolean("tictactoe.metrics");
+    private static volatile String startupTimings = "";
+    private static boolean registered;
+
+    static {
+        for (int i = 0; i < LATENCY.length; i++) LATENCY[i] = new TicTacToeHistogram();
+    }
+
+    private TicTacToeMetrics() {}
+
+    /**
+     * Starts timing a probe.
+     *
+     * @return A start time to pass to stop().
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : OFF;
+    }
+
+    /**
+     * Finishes timing a probe: records its latency and emits its JFR event.
+     *
+     * @param probe The operation that was timed.
+     * @param start The value returned by start().
+     */
+    public static void stop(Probe probe, long start) {
+        if (start == OFF) return;
+        long nanos = System.nanoTime() - start;
+        LATENCY[probe.ordinal()].record(nanos);
+        LAST.set(probe.ordinal(), nanos);
+        if (JFR) Events.commit(probe, nanos);
+    }
+
+    /**
+     * Returns whether probes are recording.
+     *
+     * @return true if enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns the probes on or off.
+     *
+     * @param on true to record.
+     */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * Returns a probe's latency histogram, in nanoseconds.
+     *
+     * @param probe The probe.
+     * @return Its histogram.
+     */
+    public static TicTacToeHistogram getLatency(Probe probe) {
+        return LATENCY[probe.ordinal()];
+    }
+
+    /**
+     * Returns the latency of a probe's most recent call.
+     *
+     * @param probe The probe.
+     * @return The latency in nanoseconds, or 0 if it has not been called.
+     */
+    public static long getLastLatency(Probe probe) {
+        return LAST.get(probe.ordinal());
+    }
+
+    /**
+     * Returns a snapshot of a probe's statistics.
+     *
+     * @param probe The probe.
+     * @return The snapshot.
+     */
+    public static ProbeStats getStats(Probe probe) {
+        return new ProbeStats(LATENCY[probe.ordinal()], LAST.get(probe.ordinal()));
+    }
+
+    /**
+     * Clears every probe's statistics.
+     */
+    public static void reset() {
+        for (int i = 0; i < PROBES.length; i++) {
+            LATENCY[i].reset();
+            LAST.set(i, 0);
+        }
+    }
+
+    /**
+     * Records the startup report, as given by TicTacToeAssets.getTimings(), for JMX and the debug overlay.
+     *
+     * @param timings The report.
+     */
+    public static void setStartupTimings(String timings) {
+        startupTimings = timings;
+    }
+
+    /**
+     * Returns the startup report.
+     *
+     * @return How long each asset loading phase took, or an empty string before the assets have loaded.
+     */
+    public static String getStartupTimings() {
+        return startupTimings;
+    }
+
+    /**
+     * Returns the number of events waiting on the EDT.
+     *
+     * @return The queue depth, or -1 until installEdtQueueCounter() has been called.
+     */
+    public static int getEdtQueueDepth() {
+        return EDT_QUEUE_DEPTH.get();
+    }
+
+    /**
+     * Replaces the AWT event queue with one that counts the events waiting in it. Safe to call more than once.
+     */
+    public static synchronized void installEdtQueueCounter() {
+        if (EDT_QUEUE_DEPTH.get() >= 0) return;
+        EDT_QUEUE_DEPTH.set(0);
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new EventQueue() {
+            @Override
+            public void postEvent(AWTEvent event) {
+                EDT_QUEUE_DEPTH.incrementAndGet();
+                super.postEvent(event);
+            }
+
+            @Override
+            protected void dispatchEvent(AWTEvent event) {
+                // Coalesced events are posted but never dispatched, so resync whenever the queue runs dry
+                if (peekEvent() == null) EDT_QUEUE_DEPTH.set(0);
+                else EDT_QUEUE_DEPTH.decrementAndGet();
+                super.dispatchEvent(event);
+            }
+        });
+    }
+
+    /**
+     * Publishes the metrics over JMX under OBJECT_NAME. Safe to call more than once.
+     */
+    public static synchronized void register() {
+        if (registered) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMXBean() {
+                public boolean isEnabled() { return TicTacToeMetrics.isEnabled(); }
+                public void setEnabled(boolean on) { TicTacToeMetrics.setEnabled(on); }
+                public ProbeStats getMove() { return getStats(Probe.MOVE); }
+                public ProbeStats getWinCheck() { return getStats(Probe.WIN_CHECK); }
+                public ProbeStats getAiSearch() { return getStats(Probe.AI_SEARCH); }
+                public ProbeStats getSound() { return getStats(Probe.SOUND); }
+                public ProbeStats getAnimation() { return getStats(Probe.ANIMATION); }
+                public int getEdtQueueDepth() { return TicTacToeMetrics.getEdtQueueDepth(); }
+                public String getStartupTimings() { return TicTacToeMetrics.getStartupTimings(); }
+                public void reset() { TicTacToeMetrics.reset(); }
+            }, new ObjectName(OBJECT_NAME));
+            registered = true;
+        } catch (JMException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Checks for the JFR event API, which Java 8 JVMs before 8u262 do not have.
+     */
+    private static boolean jfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * JFR event types, one per probe. Only loaded when the JVM has JFR.
+     */
+    private static final class Events
+    {
+        @Category("TicTacToe")
+        @StackTrace(false)
+        abstract static class ProbeEvent extends Event
+        {
+            @Label("Latency")
+            @Timespan(Timespan.NANOSECONDS)
+            long latency;
+        }
+
+        @Name("tictactoe.Move")
+        @Label("Move")
+        @Description("A move handled by TicTacToeLogic.makeMove, including any computer reply")
+        static final class MoveEvent extends ProbeEvent {}
+
+        @Name("tictactoe.WinCheck")
+        @Label("Win Check")
+        static final class WinCheckEvent extends ProbeEvent {}
+
+        @Name("tictactoe.AiSearch")
+        @Label("AI Search")
+        @Description("Choosing the computer's move from the book, the 3x3 table or MCTS")
+        static final class AiSearchEvent extends ProbeEvent {}
+
+        @Name("tictactoe.Sound")
+        @Label("Sound Playback")
+        static final class SoundEvent extends ProbeEvent {}
+
+        @Name("tictactoe.Animation")
+        @Label("Animation Frame")
+        static final class AnimationEvent extends ProbeEvent {}
+
+        static void commit(Probe probe, long nanos) {
+            ProbeEvent event;
+            switch (probe) {
+                case MOVE: event = new MoveEvent(); break;
+                case WIN_CHECK: event = new WinCheckEvent(); break;
+                case AI_SEARCH: event = new AiSearchEvent(); break;
+                case SOUND: event = new SoundEvent(); break;
+                default: event = new AnimationEvent(); break;
+            }
+            if (event.shouldCommit()) {
+                event.latency = nanos;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Software sound mixer for the game's effects. MOVE.wav, WIN.wav and TIE.wav are decoded to 16-bit PCM once, and a
+ * dedicated thread adds every playing voice together into a single SourceDataLine, so effects overlap instead of
+ * cutting each other off. play() only puts the sound on a lock-free queue and wakes the mixer thread; it never waits
+ * for the audio device, so it is safe to call from the EDT or the game logic. In silent mode, or when no audio line
+ * is available, nothing is opened and play() does nothing.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeMixer implements AutoCloseable
+{
+    public static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2, true, false); // CD quality, little-endian
+
+    private static final String[] SOUNDS = {"MOVE", "WIN", "TIE"};
+    private static final int MAX_VOICES = 8;        // oldest voice is dropped past this
+    private static final int BLOCK_FRAMES = 441;    // 10 ms mixed per write
+    private static final int LINE_BLOCKS = 4;       // line buffer, 40 ms of latency
+
+    // Class instance variables
+    private final Map<String, short[]> samples = new HashMap<>(); // interleaved stereo samples per sound
+    private final ConcurrentLinkedQueue<short[]> triggers = new ConcurrentLinkedQueue<>();
+    private final short[][] voices = new short[MAX_VOICES][];     // sound each voice is playing, null when free
+    private final int[] positions = new int[MAX_VOICES];          // next sample of each voice
+    private final SourceDataLine line;
+    private final Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Constructor for a mixer playing through the default audio device, decoding the sounds straight away.
+     *
+     * @param silent true to open no audio device and ignore every play() call, e.g. for a headless server.
+     */
+    public TicTacToeMixer(boolean silent) {
+        SourceDataLine opened = null;
+        if (!silent) {
+            try {
+                opened = AudioSystem.getSourceDataLine(FORMAT);
+                opened.open(FORMAT, BLOCK_FRAMES * FORMAT.getFrameSize() * LINE_BLOCKS);
+                opened.start();
+            } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+                System.out.println("No audio line available, sound is off: " + e.getMessage());
+                opened = null;
+            }
+        }
+        line = opened;
+
+        if (line != null) {
+            for (String sound : SOUNDS) {
+                try {
+                    samples.put(sound, decode("sound/" + sound + ".wav"));
+                } catch (IOException | UnsupportedAudioFileException | IllegalArgumentException e) {
+                    e.printStackTrace();
+                }
+            }
+            running = true;
+            thread = new Thread(this::mix, "sound-mixer");
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            thread = null;
+        }
+    }
+
+    /**
+     * Returns whether the mixer is actually producing sound.
+     *
+     * @return false in silent mode or when no audio line could be opened.
+     */
+    public boolean isEnabled() {
+        return line != null;
+    }
+
+    /**
+     * Starts a sound effect on top of whatever is already playing. Never blocks.
+     *
+     * @param sound "MOVE", "WIN" or "TIE"; anything else is ignored.
+     */
+    public void play(String sound) {
+        if (line == null) return;
+        short[] pcm = samples.get(sound);
+        if (pcm == null) return;
+        triggers.offer(pcm);
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Stops the mixer thread and closes the audio line.
+     */
+    @Override
+    public void close() {
+        if (line == null) return;
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        line.close();
+    }
+
+    /**
+     * Mixer thread: starts queued voices, adds the active ones into a block, clips it to 16 bits and writes it.
+     * Sleeps while nothing is playing.
+     */
+    private void mix() {
+        int blockSamples = BLOCK_FRAMES * FORMAT.getChannels();
+        int[] sum = new int[blockSamples];
+        byte[] block = new byte[blockSamples * 2];
+        ByteBuffer out = ByteBuffer.wrap(block).order(ByteOrder.LITTLE_ENDIAN);
+
+        while (running) {
+            short[] trigger;
+            while ((trigger = triggers.poll()) != null) {
+                int voice = freeVoice();
+                voices[voice] = trigger;
+                positions[voice] = 0;
+            }
+            int active = 0;
+            for (short[] voice : voices) {
+                if (voice != null) active++;
+            }
+            if (active == 0) {
+                LockSupport.park(this); // play() or close() wakes us
+                continue;
+            }
+
+            Arrays.fill(sum, 0);
+            for (int v = 0; v < MAX_VOICES; v++) {
+                short[] voice = voices[v];
+                if (voice == null) continue;
+                int position = positions[v];
+                int count = Math.min(blockSamples, voice.length - position);
+                for (int i = 0; i < count; i++) sum[i] += voice[position + i];
+                positions[v] = position + count;
+                if (positions[v] >= voice.length) voices[v] = null; // finished
+            }
+            for (int i = 0; i < blockSamples; i++) {
+                out.putShort(i * 2, (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sum[i])));
+            }
+            line.write(block, 0, block.length); // blocks only this thread, pacing the mix to the device
+        }
+        line.drain();
+    }
+
+    /**
+     * Picks a free voice, or the one that has played longest when all are busy.
+     */
+    private int freeVoice() {
+        int oldest = 0;
+        for (int v = 0; v < MAX_VOICES; v++) {
+            if (voices[v] == null) return v;
+            if (positions[v] > positions[oldest]) oldest = v;
+        }
+        return oldest;
+    }
+
+    /**
+     * Decodes a WAV resource to interleaved 16-bit samples in the mixer's format.
+     */
+    private static short[] decode(String path) throws IOException, UnsupportedAudioFileException {
+        URL resource = TicTacToeMixer.class.getClassLoader().getResource(path);
+        if (resource == null) throw new IOException("Resource not found: " + path);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(resource);
+             AudioInputStream pcm = source.getFormat().matches(FORMAT) ? source : AudioSystem.getAudioInputStream(FORMAT, source)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = pcm.read(buffer)) > 0) bytes.write(buffer, 0, read);
+        }
+
+        short[] samples = new short[bytes.size() / 2];
+        ByteBuffer.wrap(bytes.toByteArray()).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(samples);
+        return samples;
+    }
+}
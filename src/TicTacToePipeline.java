@@ -0,0 +1,367 @@
+import javax.swing.SwingUtilities;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a game off the EDT in three stages, so a slow computer move never freezes the window:
+ * <ol>
+ *   <li>Input: clicks and menu commands are queued to a single "game-actor" thread, the only thread that touches
+ *   the TicTacToeLogic. Moves, win checks, undo and leaderboard updates all happen there, one at a time, so the
+ *   logic needs no locking.</li>
+ *   <li>Search: when the computer is to move, a copy of the board is searched on a "game-search" worker, and the
+ *   answer is queued back to the actor. New Game, Undo, Redo and switching the computer off cancel the search; an
+ *   answer that arrives anyway is recognised as stale by its generation number and dropped. A search that fails is
+ *   reported and replaced by a random move, so the game never waits on it.</li>
+ *   <li>Publish: after each change the actor builds an immutable Snapshot of the game. Snapshots are coalesced, and
+ *   the latest is handed to the View on the EDT through SwingUtilities.invokeLater at most once per frame. Sounds
+ *   and animations due since the last frame travel with the snapshot, so none are lost to coalescing.</li>
+ * </ol>
+ * Commands may be called from any thread.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToePipeline implements AutoCloseable
+{
+    public static final long FRAME_NANOS = 16_666_667; // at most one publish per 60 Hz frame
+    private static final int SEARCH_THREADS = 2; // the next search starts on one thread while a cancelled one stops on the other
+
+    /**
+     * Receives game state on the EDT.
+     */
+    public interface View
+    {
+        /**
+         * Shows a snapshot of the game. Called on the EDT, at most once per frame.
+         *
+         * @param snapshot The latest state.
+         */
+        void render(Snapshot snapshot);
+    }
+
+    /**
+     * An immutable copy of the game after a change, plus the effects due since the last snapshot was published.
+     */
+    public static class Snapshot
+    {
+        private final int[] cells;
+        private final int width;
+        private final int player;
+        private final int winner;
+        private final long[] scores;
+        private final boolean thinking;
+        private final int movesPlayed;
+        private final int gameOver;
+
+        Snapshot(int[] cells, int width, int player, int winner, long[] scores, boolean thinking, int movesPlayed, int gameOver) {
+            this.cells = cells;
+            this.width = width;
+            this.player = player;
+            this.winner = winner;
+            this.scores = scores;
+            this.thinking = thinking;
+            this.movesPlayed = movesPlayed;
+            this.gameOver = gameOver;
+        }
+
+        /** @return Number of squares on the board. */
+        public int getCellCount() { return cells.length; }
+
+        /** @return Number of columns on the board. */
+        public int getWidth() { return width; }
+
+        /**
+         * Returns the mark on a square.
+         *
+         * @param cell The square index.
+         * @return TicTacToeBoard.EMPTY, X or O.
+         */
+        public int get(int cell) { return cells[cell]; }
+
+        /** @return The player to move, TicTacToeBoard.X or O. */
+        public int getPlayer() { return player; }
+
+        /** @return The result, TicTacToeBoard.X, O or TIE, or EMPTY while the game is on. */
+        public int getWinner() { return winner; }
+
+        /** @return X wins, O wins and ties on the leaderboard; the array must not be modified. */
+        public long[] getScores() { return scores; }
+
+        /** @return true while the computer is searching for its move. */
+        public boolean isThinking() { return thinking; }
+
+        /** @return Moves played since the last published snapshot. */
+        public int getMovesPlayed() { return movesPlayed; }
+
+        /** @return The result of a game that ended since the last published snapshot, or EMPTY if none did. */
+        public int getGameOver() { return gameOver; }
+    }
+
+    // Class instance variables
+    private final TicTacToeLogic logic; // only touched on the actor thread
+    private final View view;
+    private final ScheduledExecutorService actor;
+    private final ExecutorService searchers;
+    private final ThreadLocal<TicTacToePlayer> computers; // one per search thread, as the players are not thread-safe
+    private final Queue<TicTacToePlayer> created = new ConcurrentLinkedQueue<>(); // computers to close with the pipeline
+    private final AtomicLong generation = new AtomicLong(); // bumped whenever a search in flight becomes stale
+    private Future<?> search; // the search in flight, actor thread only
+
+    // Effects seen by the actor since the last snapshot was built
+    private int movesPlayed;
+    private int gameOver = TicTacToeBoard.EMPTY;
+
+    // Publishing
+    private final AtomicReference<Snapshot> pending = new AtomicReference<>(); // built but not yet published
+    private final AtomicBoolean publishScheduled = new AtomicBoolean();
+    private volatile long lastPublish = System.nanoTime() - FRAME_NANOS;
+
+    /**
+     * Constructor for a pipeline running a game. The logic is handed over: from here on only the pipeline's actor
+     * thread may use it. The computer's moves are searched by TicTacToePlayer.computer().
+     *
+     * @param logic The game.
+     * @param view Shows the game on the EDT.
+     */
+    public TicTacToePipeline(TicTacToeLogic logic, View view) {
+        this.logic = logic;
+        this.view = view;
+        actor = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "game-actor"));
+        searchers = Executors.newFixedThreadPool(SEARCH_THREADS, runnable -> daemon(runnable, "game-search"));
+        computers = ThreadLocal.withInitial(() -> {
+            TicTacToePlayer computer = TicTacToePlayer.computer(TicTacToeLogic.COMPUTER_MOVE_MS);
+            created.add(computer);
+            return computer;
+        });
+
+        actor.execute(() -> {
+            logic.setComputerDeferred(true);
+            logic.addListener(new TicTacToeListener() {
+                @Override
+                public void movePlayed(int cell, int player) {
+                    movesPlayed++;
+                }
+
+                @Override
+                public void gameOver(int winner) {
+                    gameOver = winner;
+                }
+            });
+            changed();
+        });
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Queues a move for the player to move. It is ignored if the square is taken, the game is over or the computer
+     * is to move.
+     *
+     * @param row The row of the move.
+     * @param col The column of the move.
+     */
+    public void move(int row, int col) {
+        actor.execute(() -> {
+            if (logic.isComputerToMove()) return; // clicks while the computer thinks are not the human's moves
+            logic.makeMove(row, col);
+            changed();
+        });
+    }
+
+    /**
+     * Queues a new game, cancelling any search in flight.
+     */
+    public void newGame() {
+        actor.execute(() -> {
+            cancelSearch();
+            logic.clearBoard();
+            changed();
+        });
+    }
+
+    /**
+     * Queues taking back the last move (and the computer's reply), cancelling any search in flight.
+     */
+    public void undo() {
+        actor.execute(() -> {
+            cancelSearch();
+            logic.undo();
+            changed();
+        });
+    }
+
+    /**
+     * Queues replaying the last move taken back (and the computer's reply), cancelling any search in flight.
+     */
+    public void redo() {
+        actor.execute(() -> {
+            cancelSearch();
+            logic.redo();
+            changed();
+        });
+    }
+
+    /**
+     * Queues a change of the player controlled by the computer. The computer starts searching if it is its turn.
+     *
+     * @param symbol "X" or "O" for the computer's player, or " " for a two player game.
+     */
+    public void setComputerPlayer(String symbol) {
+        actor.execute(() -> {
+            cancelSearch();
+            logic.setComputerPlayer(symbol);
+            changed();
+        });
+    }
+
+    /**
+     * Returns the leaderboard the game records results on. It is thread-safe, so it can be read or saved from any
+     * thread.
+     *
+     * @return The game's TicTacToeLeaderboard.
+     */
+    public TicTacToeLeaderboard getScores() {
+        return logic.getScores();
+    }
+
+    /**
+     * Stops the pipeline's threads and closes the computer players' searches. Commands queued afterwards are
+     * rejected.
+     */
+    @Override
+    public void close() {
+        actor.shutdownNow();
+        searchers.shutdownNow();
+        try {
+            searchers.awaitTermination(1, TimeUnit.SECONDS); // a search still running is using its player
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (TicTacToePlayer computer; (computer = created.poll()) != null; ) computer.close();
+    }
+
+    /**
+     * Drops the search in flight, if any: its answer will no longer match the generation.
+     */
+    private void cancelSearch() {
+        generation.incrementAndGet();
+        if (search != null) {
+            search.cancel(true);
+            search = null;
+        }
+    }
+
+    /**
+     * Called on the actor after every command: starts the computer's search if it is to move and publishes the
+     * new state.
+     */
+    private void changed() {
+        if (search == null && logic.isComputerToMove()) startSearch();
+        publish(snapshot());
+    }
+
+    /**
+     * Searches a copy of the board on a worker, then queues the answer back to the actor, which plays it only if
+     * nothing has changed the game since.
+     */
+    private void startSearch() {
+        long searchGeneration = generation.get();
+        TicTacToeGrid board = new TicTacToeGrid(logic.getGrid());
+        int player = TicTacToeBoard.valueOf(logic.getCurrentPlayer());
+        long key = logic.getZobristKey(); // the board copy keeps the logic's key, so the solver need not rehash it
+        search = searchers.submit(() -> {
+            long start = TicTacToeMetrics.start();
+            int cell;
+            try {
+                cell = computers.get().chooseMove(board, player, key);
+            } catch (RuntimeException e) {
+                actor.execute(() -> searchFailed(searchGeneration, e));
+                return;
+            } finally {
+                TicTacToeMetrics.stop(TicTacToeMetrics.Probe.AI_SEARCH, start); // failed searches count too
+            }
+            if (Thread.currentThread().isInterrupted()) return; // cancelled
+            actor.execute(() -> {
+                if (generation.get() != searchGeneration) return; // stale: the game changed while searching
+                search = null;
+                if (cell >= 0 && logic.isComputerToMove()) logic.makeMove(cell / board.getWidth(), cell % board.getWidth());
+                changed();
+            });
+        });
+    }
+
+    /**
+     * Reports a search that threw, on the actor. Unless the game has changed since, the computer plays a random move
+     * instead, so the game goes on and a search that always fails does not spin.
+     */
+    private void searchFailed(long searchGeneration, RuntimeException e) {
+        if (generation.get() != searchGeneration) return; // the failed search was already cancelled
+        search = null;
+        e.printStackTrace();
+        if (logic.isComputerToMove()) {
+            TicTacToeGrid grid = logic.getGrid();
+            int cell = TicTacToePlayer.randomMove(grid, new SplittableRandom());
+            if (cell >= 0) logic.makeMove(cell / grid.getWidth(), cell % grid.getWidth());
+        }
+        changed();
+    }
+
+    /**
+     * Copies the game and the effects seen since the last snapshot.
+     */
+    private Snapshot snapshot() {
+        TicTacToeGrid grid = logic.getGrid();
+        int[] cells = new int[grid.getCellCount()];
+        for (int cell = 0; cell < cells.length; cell++) cells[cell] = grid.get(cell);
+        Snapshot snapshot = new Snapshot(cells, grid.getWidth(), TicTacToeBoard.valueOf(logic.getCurrentPlayer()),
+                TicTacToeBoard.valueOf(logic.getWinner()), logic.getScores().snapshot(), search != null, movesPlayed, gameOver);
+        movesPlayed = 0;
+        gameOver = TicTacToeBoard.EMPTY;
+        return snapshot;
+    }
+
+    /**
+     * Makes a snapshot the next to be published, carrying over the effects of one that was never shown, and
+     * schedules a publish unless one is already due. Publishes are spaced at least a frame apart.
+     */
+    private void publish(Snapshot snapshot) {
+        Snapshot merged;
+        Snapshot previous;
+        do {
+            previous = pending.get();
+            merged = previous == null ? snapshot : new Snapshot(snapshot.cells, snapshot.width, snapshot.player,
+                    snapshot.winner, snapshot.scores, snapshot.thinking, previous.movesPlayed + snapshot.movesPlayed,
+                    snapshot.gameOver != TicTacToeBoard.EMPTY ? snapshot.gameOver : previous.gameOver);
+        } while (!pending.compareAndSet(previous, merged));
+
+        if (publishScheduled.compareAndSet(false, true)) {
+            long wait = lastPublish + FRAME_NANOS - System.nanoTime();
+            if (wait <= 0) SwingUtilities.invokeLater(this::render);
+            else actor.schedule(() -> SwingUtilities.invokeLater(this::render), wait, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Hands the latest snapshot to the view, on the EDT.
+     */
+    private void render() {
+        lastPublish = System.nanoTime(); // first, so a publish racing with this frame waits for the next one
+        publishScheduled.set(false); // a snapshot built from here on schedules another frame
+        Snapshot snapshot = pending.getAndSet(null);
+        if (snapshot == null) return; // already shown by the previous frame
+        view.render(snapshot);
+    }
+}
@@ -0,0 +1,187 @@
+import java.util.SplittableRandom;
+
+/**
+ * Something that picks moves, such as one of the computer opponents. TicTacToeTournament plays players against each
+ * other to rate them. A player object is only used by one game at a time; a tournament creates one per worker
+ * thread. Players that hold threads or large buffers release them in close().
+ *
+ * The static factories build the computer players: random, perfect (opening book, then TicTacToeAI on 3x3 or
+ * TicTacToeSolver on larger boards), MCTS with a fixed playout budget, and the timed computer opponent the game
+ * itself plays against.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public interface TicTacToePlayer extends AutoCloseable
+{
+    /**
+     * Returns the name the player is listed under.
+     *
+     * @return The name.
+     */
+    String getName();
+
+    /**
+     * Picks a move.
+     *
+     * @param grid The current board; it must not be modified.
+     * @param player The side this player is playing, TicTacToeBoard.X or O.
+     * @return A free square index, or -1 to resign.
+     */
+    int chooseMove(TicTacToeGrid grid, int player);
+
+    /**
+     * Picks a move on a board whose Zobrist key the caller already keeps, as TicTacToeLogic does. Players that hash
+     * positions use the key instead of hashing the board again; the others ignore it.
+     *
+     * @param grid The current board; it must not be modified.
+     * @param player The side this player is playing, TicTacToeBoard.X or O.
+     * @param key The board's key under TicTacToeZobrist.forSize() for its size.
+     * @return A free square index, or -1 to resign.
+     */
+    default int chooseMove(TicTacToeGrid grid, int player, long key) {
+        return chooseMove(grid, player);
+    }
+
+    /**
+     * Releases the player's search threads and buffers, if it has any. The player must not be used afterwards.
+     */
+    @Override
+    default void close() {}
+
+    /**
+     * Creates a player that picks uniformly random free squares.
+     *
+     * @param seed Random seed.
+     * @return The player.
+     */
+    static TicTacToePlayer random(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return new TicTacToePlayer() {
+            public String getName() { return "random"; }
+
+            public int chooseMove(TicTacToeGrid grid, int player) {
+                return randomMove(grid, random);
+            }
+        };
+    }
+
+    /**
+     * Creates a player that plays solved positions perfectly: book moves first, then TicTacToeAI on 3x3 boards or
+     * TicTacToeSolver within a node budget on larger ones. Positions the solver cannot prove get a random move.
+     *
+     * @param nodeBudget Positions the solver may visit per move.
+     * @param seed Random seed for unproved positions.
+     * @return The player.
+     */
+    static TicTacToePlayer perfect(long nodeBudget, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return new TicTacToePlayer() {
+            private TicTacToeSolver solver; // created for the first board larger than 3x3
+            private TicTacToeTranspositionTable table; // the solver's table, shared by games of its board configuration
+
+            public String getName() { return "perfect"; }
+
+            public int chooseMove(TicTacToeGrid grid, int player) {
+                return chooseMove(grid, player, TicTacToeZobrist.forSize(grid.getWidth(), grid.getHeight()).hash(grid));
+            }
+
+            public int chooseMove(TicTacToeGrid grid, int player, long key) {
+                int cell = TicTacToeBook.forGrid(grid).bestMove(grid);
+                if (cell >= 0) return cell;
+                if (grid.isClassic()) return TicTacToeAI.bestMove(TicTacToeBoard.pack(grid));
+
+                TicTacToeTranspositionTable shared = TicTacToeTranspositionTable.forGrid(grid);
+                if (table != shared) {
+                    table = shared;
+                    solver = new TicTacToeSolver(grid.getWidth(), grid.getHeight(), table);
+                }
+                if (solver.solve(grid, player, key, nodeBudget)) return solver.getBestMove();
+                return randomMove(grid, random);
+            }
+        };
+    }
+
+    /**
+     * Creates a single-threaded MCTS player that runs a fixed number of playouts per move, so its strength does not
+     * depend on how busy the machine is.
+     *
+     * @param playouts Playouts per move.
+     * @return The player.
+     */
+    static TicTacToePlayer mcts(long playouts) {
+        TicTacToeMCTS search = new TicTacToeMCTS(1, 1 << 18);
+        return new TicTacToePlayer() {
+            public String getName() { return "mcts-" + playouts; }
+
+            public int chooseMove(TicTacToeGrid grid, int player) {
+                return search.bestMove(grid, player, 0, playouts);
+            }
+
+            public void close() {
+                search.close();
+            }
+        };
+    }
+
+    /**
+     * Creates the computer opponent used by TicTacToeLogic and TicTacToePipeline. Book positions are answered from
+     * the opening book and the classic game by TicTacToeAI. On larger boards, once at most
+     * TicTacToeLogic.SOLVER_SQUARES are free, TicTacToeSolver tries to prove the position within
+     * TicTacToeLogic.SOLVER_NODES using the shared transposition table; anything else is searched by a multi-threaded
+     * TicTacToeMCTS for a fixed time.
+     *
+     * @param moveMs Search time per MCTS move, in milliseconds.
+     * @return The player.
+     */
+    static TicTacToePlayer computer(long moveMs) {
+        return new TicTacToePlayer() {
+            private TicTacToeSolver solver; // created for the first board larger than 3x3
+            private TicTacToeTranspositionTable table; // the solver's table, shared by games of its board configuration
+            private TicTacToeMCTS mcts; // created for the first position the solver cannot take
+
+            public String getName() { return "computer"; }
+
+            public int chooseMove(TicTacToeGrid grid, int player) {
+                return chooseMove(grid, player, TicTacToeZobrist.forSize(grid.getWidth(), grid.getHeight()).hash(grid));
+            }
+
+            public int chooseMove(TicTacToeGrid grid, int player, long key) {
+                int cell = TicTacToeBook.forGrid(grid).bestMove(grid); // positions already solved need no search
+                if (cell >= 0) return cell;
+                if (grid.isClassic()) return TicTacToeAI.bestMove(TicTacToeBoard.pack(grid));
+
+                if (grid.getFreeSquares() <= TicTacToeLogic.SOLVER_SQUARES) {
+                    TicTacToeTranspositionTable shared = TicTacToeTranspositionTable.forGrid(grid);
+                    if (table != shared) {
+                        table = shared;
+                        solver = new TicTacToeSolver(grid.getWidth(), grid.getHeight(), table);
+                    }
+                    if (solver.solve(grid, player, key, TicTacToeLogic.SOLVER_NODES)) return solver.getBestMove();
+                }
+                if (mcts == null) mcts = new TicTacToeMCTS();
+                return mcts.bestMove(grid, player, moveMs, 0);
+            }
+
+            public void close() {
+                if (mcts != null) mcts.close();
+            }
+        };
+    }
+
+    /**
+     * Picks a uniformly random free square.
+     *
+     * @param grid The board.
+     * @param random The random generator.
+     * @return The square index, or -1 if the board is full.
+     */
+    static int randomMove(TicTacToeGrid grid, SplittableRandom random) {
+        int free = grid.getFreeSquares();
+        if (free == 0) return -1;
+        int skip = random.nextInt(free);
+        for (int cell = 0; ; cell++) {
+            if (grid.isFree(cell) && skip-- == 0) return cell;
+        }
+    }
+}
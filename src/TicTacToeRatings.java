@@ -0,0 +1,194 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Elo ratings for a fixed field of players, fitted to every game played so far. Only a head-to-head table of games and
+ * points is kept (n x n numbers for n players), so memory does not grow with the number of games, and the ratings
+ * do not depend on the order the games finished in.
+ *
+ * Ratings are the maximum likelihood fit of the Bradley-Terry model, solved with Hunter's MM iteration, with a draw
+ * counting as half a win. One virtual draw between every pair of players keeps the fit finite for a player who has
+ * never lost. Ratings average 0, and each comes with a 95% confidence margin from the curvature of the likelihood.
+ *
+ * Not thread-safe; TicTacToeTournament records every game from the thread running the tournament.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeRatings
+{
+    /**
+     * One player's results and rating.
+     */
+    public static class Rating
+    {
+        private final String name;
+        private final long wins;
+        private final long draws;
+        private final long losses;
+        private final double elo;
+        private final double margin;
+
+        Rating(String name, long wins, long draws, long losses, double elo, double margin) {
+            this.name = name;
+            this.wins = wins;
+            this.draws = draws;
+            this.losses = losses;
+            this.elo = elo;
+            this.margin = margin;
+        }
+
+        /** @return The player's name. */
+        public String getName() { return name; }
+
+        /** @return Games won. */
+        public long getWins() { return wins; }
+
+        /** @return Games drawn. */
+        public long getDraws() { return draws; }
+
+        /** @return Games lost. */
+        public long getLosses() { return losses; }
+
+        /** @return Games played. */
+        public long getGames() { return wins + draws + losses; }
+
+        /** @return The rating, relative to a field average of 0. */
+        public double getElo() { return elo; }
+
+        /** @return Half-width of the 95% confidence interval of the rating. */
+        public double getMargin() { return margin; }
+
+        @Override
+        public String toString() {
+            return String.format("%-14s %+7.0f +/- %-5.0f %,10d games  %,d-%,d-%,d", name, elo, margin, getGames(), wins,
+                    draws, losses);
+        }
+    }
+
+    private static final double ELO_PER_NATURAL_UNIT = 400 / Math.log(10);
+    private static final double Z_95 = 1.96;
+    private static final double PRIOR_GAMES = 1; // virtual draws between every pair of players
+    private static final int MAX_ITERATIONS = 10_000;
+    private static final double TOLERANCE = 1e-10;
+
+    // Class instance variables
+    private final String[] names;
+    private final long[][] games;   // games[i][j] = games between i and j, either colour
+    private final long[][] points;  // points[i][j] = half-points i scored against j (win 2, draw 1)
+    private final long[] wins;
+    private final long[] draws;
+    private final long[] losses;
+
+    /**
+     * Constructor for an empty table.
+     *
+     * @param names The players' names, in index order.
+     */
+    public TicTacToeRatings(String... names) {
+        int n = names.length;
+        this.names = names.clone();
+        games = new long[n][n];
+        points = new long[n][n];
+        wins = new long[n];
+        draws = new long[n];
+        losses = new long[n];
+    }
+
+    /**
+     * Records one game.
+     *
+     * @param x Index of the player who had X.
+     * @param o Index of the player who had O.
+     * @param winner TicTacToeBoard.X, O or TIE.
+     */
+    public void record(int x, int o, int winner) {
+        games[x][o]++;
+        games[o][x]++;
+        if (winner == TicTacToeBoard.TIE) {
+            points[x][o]++;
+            points[o][x]++;
+            draws[x]++;
+            draws[o]++;
+        } else {
+            int won = winner == TicTacToeBoard.X ? x : o;
+            int lost = won == x ? o : x;
+            points[won][lost] += 2;
+            wins[won]++;
+            losses[lost]++;
+        }
+    }
+
+    /**
+     * Returns the number of games two players have played against each other, with either colour.
+     *
+     * @param i Index of one player.
+     * @param j Index of the other.
+     * @return The game count.
+     */
+    public long getGames(int i, int j) {
+        return games[i][j];
+    }
+
+    /**
+     * Returns the number of games recorded.
+     *
+     * @return The game count.
+     */
+    public long getGames() {
+        long total = 0;
+        for (int i = 0; i < names.length; i++) total += wins[i] + draws[i] + losses[i];
+        return total / 2;
+    }
+
+    /**
+     * Fits the ratings to the games so far.
+     *
+     * @return Every player's rating, strongest first.
+     */
+    public List<Rating> compute() {
+        int n = names.length;
+        double[] strength = new double[n];
+        double[] score = new double[n];
+        for (int i = 0; i < n; i++) {
+            strength[i] = 1;
+            for (int j = 0; j < n; j++) {
+                if (j != i) score[i] += points[i][j] / 2.0 + PRIOR_GAMES / 2;
+            }
+        }
+
+        // MM iteration: strength_i = score_i / sum_j (games_ij / (strength_i + strength_j))
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double change = 0;
+            double logSum = 0;
+            for (int i = 0; i < n; i++) {
+                double denominator = 0;
+                for (int j = 0; j < n; j++) {
+                    if (j != i) denominator += (games[i][j] + PRIOR_GAMES) / (strength[i] + strength[j]);
+                }
+                double updated = denominator > 0 ? score[i] / denominator : 1;
+                change = Math.max(change, Math.abs(Math.log(updated / strength[i])));
+                strength[i] = updated;
+                logSum += Math.log(updated);
+            }
+            double mean = Math.exp(logSum / Math.max(1, n)); // keep the geometric mean at 1, i.e. the average at 0 Elo
+            for (int i = 0; i < n; i++) strength[i] /= mean;
+            if (change < TOLERANCE) break;
+        }
+
+        List<Rating> ratings = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            double information = 0; // Fisher information of the player's own log-strength
+            for (int j = 0; j < n; j++) {
+                if (j == i) continue;
+                double p = strength[i] / (strength[i] + strength[j]);
+                information += (games[i][j] + PRIOR_GAMES) * p * (1 - p);
+            }
+            double margin = information > 0 ? Z_95 * ELO_PER_NATURAL_UNIT / Math.sqrt(information) : Double.POSITIVE_INFINITY;
+            ratings.add(new Rating(names[i], wins[i], draws[i], losses[i], ELO_PER_NATURAL_UNIT * Math.log(strength[i]), margin));
+        }
+        ratings.sort(Comparator.comparingDouble(Rating::getElo).reversed());
+        return ratings;
+    }
+}
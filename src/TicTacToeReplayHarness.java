@@ -0,0 +1,327 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Headless regression harness for TicTacToeLogic. It drives a game the way the UI does (makeMove, undo, redo,
+ * jumpToPly and clearBoard) with no window, and after every step compares the logic with a separate model of the
+ * game. The model is a plain list of moves, and its win check scans every line on the board rather than sharing
+ * any code with the logic. The checks cover the board, the winner, the player to move, the history position, the
+ * leaderboard, the Zobrist key, and a copy of the board rebuilt only from TicTacToeListener events.
+ *
+ * Two modes:
+ * <pre>
+ *   java TicTacToeReplayHarness [games] [seed] [width height winLength]
+ *       plays random games mixed with random undo, redo, jump and new game steps. A seed reproduces a run exactly.
+ *   java TicTacToeReplayHarness log &lt;directory&gt; [width height winLength]
+ *       replays every game recorded by TicTacToeGameLog, checking each ply.
+ * </pre>
+ * Throws with the failing game's details on the first mismatch, so the JVM exits with status 1; in log mode a game
+ * that ends differently from the log is a mismatch too. The Maven build runs the random mode in its test phase (see
+ * pom.xml), so a change that breaks the game logic fails the build.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeReplayHarness
+{
+    // Class instance variables
+    private final TicTacToeLogic logic;
+    private final TicTacToeGrid grid;
+    private final int width;
+    private final int height;
+    private final int winLength;
+    private final int cells;
+    private final long[] baseScores;        // leaderboard before the harness started
+
+    // The model: history[0..ply) is on the board, history[ply..length) can be redone
+    private final int[] history;
+    private final int[] board;
+    private int ply;
+    private int length;
+    private int winner;
+    private final long[] results = new long[3]; // X wins, O wins and ties that currently stand
+
+    // What the listener has seen
+    private final int[] mirror;
+    private long gameOverEvents;
+    private long expectedGameOvers;
+
+    private String failure;
+    private long steps;
+
+    /**
+     * Constructor for a harness on one board configuration.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     * @param winLength Number of marks in a row needed to win.
+     */
+    public TicTacToeReplayHarness(int width, int height, int winLength) {
+        this.width = width;
+        this.height = height;
+        this.winLength = winLength;
+        cells = width * height;
+        logic = new TicTacToeLogic(width, height, winLength);
+        grid = logic.getGrid();
+        baseScores = logic.getScores().snapshot();
+        history = new int[cells];
+        board = new int[cells];
+        mirror = new int[cells];
+
+        logic.addListener(new TicTacToeListener() {
+            @Override
+            public void movePlayed(int cell, int player) {
+                mirror[cell] = player;
+            }
+
+            @Override
+            public void moveUndone(int cell, int player) {
+                if (mirror[cell] != player) fail("moveUndone(" + cell + ", " + player + ") for a square holding " + mirror[cell]);
+                mirror[cell] = TicTacToeBoard.EMPTY;
+            }
+
+            @Override
+            public void gameOver(int result) {
+                gameOverEvents++;
+            }
+
+            @Override
+            public void boardCleared() {
+                Arrays.fill(mirror, TicTacToeBoard.EMPTY);
+            }
+        });
+    }
+
+    /**
+     * Replays a recorded game from a new board, checking the game after every ply.
+     *
+     * @param moves The square of each move, in order.
+     * @param count Number of moves to play.
+     * @return true if every check passed.
+     */
+    public boolean replay(int[] moves, int count) {
+        newGame();
+        for (int i = 0; i < count && failure == null; i++) move(moves[i]);
+        return failure == null;
+    }
+
+    /**
+     * Plays one random game: mostly random moves (some of them onto taken squares, which must be ignored), mixed
+     * with undo, redo, jumps through the history and the occasional new game.
+     *
+     * @param random The random generator.
+     * @return true if every check passed.
+     */
+    public boolean randomGame(SplittableRandom random) {
+        newGame();
+        while (winner == TicTacToeBoard.EMPTY && failure == null) {
+            int step = random.nextInt(20);
+            if (step < 14) move(random.nextInt(cells));
+            else if (step < 16) undo();
+            else if (step < 18) redo();
+            else if (step < 19) jump(random.nextInt(length + 1));
+            else if (random.nextInt(4) == 0) newGame();
+            else move(random.nextInt(cells));
+        }
+        if (failure == null && random.nextBoolean()) undo(); // sometimes take the result back off the leaderboard
+        return failure == null;
+    }
+
+    /**
+     * Returns a description of the first check that failed.
+     *
+     * @return The failure, or null if every check passed.
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns the number of steps checked.
+     *
+     * @return The step count.
+     */
+    public long getSteps() {
+        return steps;
+    }
+
+    private void newGame() {
+        logic.clearBoard();
+        ply = 0;
+        length = 0;
+        winner = TicTacToeBoard.EMPTY; // a finished game's result stays on the leaderboard
+        update("clearBoard()");
+    }
+
+    private void move(int cell) {
+        logic.makeMove(cell / width, cell % width);
+        if (board[cell] == TicTacToeBoard.EMPTY && winner == TicTacToeBoard.EMPTY) {
+            history[ply++] = cell;
+            length = ply;
+        }
+        update("makeMove(" + cell / width + ", " + cell % width + ")");
+    }
+
+    private void undo() {
+        boolean undone = logic.undo();
+        if (undone != ply > 0) fail("undo() returned " + undone);
+        if (ply > 0) ply--;
+        update("undo()");
+    }
+
+    private void redo() {
+        boolean redone = logic.redo();
+        if (redone != ply < length) fail("redo() returned " + redone);
+        if (ply < length) ply++;
+        update("redo()");
+    }
+
+    private void jump(int target) {
+        logic.jumpToPly(target);
+        ply = target;
+        update("jumpToPly(" + target + ")");
+    }
+
+    /**
+     * Rebuilds the model after a step, works out what the leaderboard and listener should have seen, and checks the
+     * logic against it.
+     */
+    private void update(String step) {
+        steps++;
+        int before = winner;
+        Arrays.fill(board, TicTacToeBoard.EMPTY);
+        for (int i = 0; i < ply; i++) board[history[i]] = i % 2 == 0 ? TicTacToeBoard.X : TicTacToeBoard.O;
+        winner = ply == 0 ? TicTacToeBoard.EMPTY : scanWinner();
+
+        if (before == TicTacToeBoard.EMPTY && winner != TicTacToeBoard.EMPTY) {
+            results[winner - 1]++;
+            expectedGameOvers++;
+        } else if (before != TicTacToeBoard.EMPTY && winner == TicTacToeBoard.EMPTY) {
+            results[before - 1]--; // a finished game was taken back
+        }
+        check(step);
+    }
+
+    /**
+     * Finds the result by scanning every line of winLength squares on the board.
+     */
+    private int scanWinner() {
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int player = board[row * width + col];
+                if (player == TicTacToeBoard.EMPTY) continue;
+                for (int[] d : directions) {
+                    int n = 1;
+                    int r = row + d[0];
+                    int c = col + d[1];
+                    while (n < winLength && r >= 0 && r < height && c >= 0 && c < width && board[r * width + c] == player) {
+                        n++;
+                        r += d[0];
+                        c += d[1];
+                    }
+                    if (n == winLength) return player;
+                }
+            }
+        }
+        return ply == cells ? TicTacToeBoard.TIE : TicTacToeBoard.EMPTY;
+    }
+
+    private void check(String step) {
+        for (int cell = 0; cell < cells; cell++) {
+            if (grid.get(cell) != board[cell]) fail(step + ": square " + cell + " is " + grid.get(cell) + ", expected " + board[cell]);
+            if (mirror[cell] != board[cell]) fail(step + ": listener saw square " + cell + " as " + mirror[cell] + ", expected " + board[cell]);
+        }
+        int toMove = ply % 2 == 0 ? TicTacToeBoard.X : TicTacToeBoard.O;
+        if (winner != TicTacToeBoard.EMPTY) toMove = ply % 2 == 0 ? TicTacToeBoard.O : TicTacToeBoard.X; // the winner's turn is kept
+        if (!logic.getWinner().equals(TicTacToeBoard.symbol(winner))) fail(step + ": winner " + logic.getWinner() + ", expected " + TicTacToeBoard.symbol(winner));
+        if (!logic.getCurrentPlayer().equals(TicTacToeBoard.symbol(toMove))) fail(step + ": " + logic.getCurrentPlayer() + " to move, expected " + TicTacToeBoard.symbol(toMove));
+        if (logic.getPly() != ply || logic.getHistoryLength() != length) {
+            fail(step + ": at ply " + logic.getPly() + " of " + logic.getHistoryLength() + ", expected " + ply + " of " + length);
+        }
+        long[] scores = logic.getScores().snapshot();
+        for (int i = 0; i < results.length; i++) {
+            if (scores[i] != baseScores[i] + results[i]) fail(step + ": leaderboard " + Arrays.toString(scores) + ", expected " + Arrays.toString(results));
+        }
+        if (gameOverEvents != expectedGameOvers) fail(step + ": " + gameOverEvents + " gameOver events, expected " + expectedGameOvers);
+        if (logic.getZobristKey() != logic.getZobrist().hash(grid)) fail(step + ": Zobrist key out of step with the board");
+    }
+
+    private void fail(String message) {
+        if (failure == null) failure = message + " after moves " + Arrays.toString(Arrays.copyOf(history, ply));
+    }
+
+    /**
+     * Runs the harness from the command line.
+     *
+     * @param args [games] [seed] [width height winLength], or log &lt;directory&gt; [width height winLength]
+     * @throws IOException if a game log cannot be read.
+     * @throws IllegalStateException if a check fails.
+     */
+    public static void main(String[] args) throws IOException {
+        boolean fromLog = args.length > 0 && args[0].equals("log");
+        if (fromLog && args.length < 2) {
+            System.out.println("Usage: java TicTacToeReplayHarness log <log directory> [width height winLength]");
+            return;
+        }
+        int sizeArg = 2;
+        int width = args.length > sizeArg ? Integer.parseInt(args[sizeArg]) : TicTacToeBoard.SIZE;
+        int height = args.length > sizeArg + 1 ? Integer.parseInt(args[sizeArg + 1]) : width;
+        int winLength = args.length > sizeArg + 2 ? Integer.parseInt(args[sizeArg + 2]) : Math.min(TicTacToeBoard.SIZE, Math.min(width, height));
+        TicTacToeReplayHarness harness = new TicTacToeReplayHarness(width, height, winLength);
+
+        long start = System.nanoTime();
+        long games = 0;
+        String failed = null;
+        if (fromLog) {
+            // Moves are gathered per game id, since a server interleaves many games in one log
+            Map<Long, int[]> open = new HashMap<>();
+            long[] counts = new long[1]; // games replayed
+            String[] firstFailure = new String[1];
+            TicTacToeGameLog.replay(Paths.get(args[1]), new TicTacToeGameLog.Visitor() {
+                public void onMove(long gameId, int ply, int cell, int player) {
+                    int[] moves = open.computeIfAbsent(gameId, id -> new int[width * height + 1]);
+                    moves[ply] = cell;
+                    moves[moves.length - 1] = ply + 1;
+                }
+
+                public void onTakeBack(long gameId, int ply, int cell) {
+                    int[] moves = open.get(gameId);
+                    if (moves != null) moves[moves.length - 1] = ply; // the move and any after it are off the board
+                }
+
+                public void onGameEnd(long gameId, int winner) {
+                    int[] moves = open.remove(gameId);
+                    if (moves == null || firstFailure[0] != null) return;
+                    counts[0]++;
+                    if (!harness.replay(moves, moves[moves.length - 1])) {
+                        firstFailure[0] = "game " + gameId + ": " + harness.getFailure();
+                    } else if (!harness.logic.getWinner().equals(TicTacToeBoard.symbol(winner))) {
+                        firstFailure[0] = "game " + gameId + ": ended " + harness.logic.getWinner() + ", the log says "
+                                + TicTacToeBoard.symbol(winner);
+                    }
+                }
+            });
+            games = counts[0];
+            failed = firstFailure[0];
+        } else {
+            long total = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+            long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+            System.out.println("Seed " + seed);
+            SplittableRandom random = new SplittableRandom(seed);
+            for (; games < total && failed == null; games++) {
+                if (!harness.randomGame(random)) failed = "game " + games + " of seed " + seed + ": " + harness.getFailure();
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(String.format("%,d games, %,d steps checked in %.2f s (%,.0f games/s)", games, harness.getSteps(),
+                seconds, games / seconds));
+        if (failed != null) throw new IllegalStateException("FAILED " + failed);
+        System.out.println("All checks passed");
+    }
+}
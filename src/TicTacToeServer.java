@@ -0,0 +1,259 @@
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Multi-session game server speaking a line-based protocol over TCP. Every connection is its own game session, run
+ * on its own thread: a virtual thread on Java 21 and later, a pooled platform thread otherwise. Sessions play through
+ * a headless TicTacToeLogic, so they have exactly the move and win rules of the desktop game but never touch the UI's
+ * sounds or animations, and all of them record results on one shared TicTacToeLeaderboard.
+ *
+ * Protocol, one command per line:
+ * <pre>
+ *   (on connect)      server: HELLO width height winLength
+ *   NEW               server: OK X                      starts a new game
+ *   MOVE row col      server: OK next | WIN X | WIN O | TIE | ERR reason
+ *   SCORE             server: SCORE xWins oWins ties    shared leaderboard
+ *   QUIT              server: BYE                       closes the connection
+ * </pre>
+ * A line longer than MAX_LINE characters is answered with "ERR line too long" and the connection is closed, so one
+ * client cannot fill the heap shared by every session.
+ *
+ * Usage: java TicTacToeServer [port] [width height winLength]
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeServer
+{
+    public static final int DEFAULT_PORT = 7333;
+    public static final int MAX_LINE = 256; // longest command line a client may send
+
+    // Class instance variables
+    private final int width;
+    private final int height;
+    private final int winLength;
+    private final TicTacToeLeaderboard leaderboard = new TicTacToeLeaderboard();
+    private final ExecutorService sessions = newPerTaskExecutor();
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * Constructor for a server hosting m,n,k games.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     * @param winLength Number of marks in a row needed to win.
+     */
+    public TicTacToeServer(int width, int height, int winLength) {
+        new TicTacToeGrid(width, height, winLength); // rejects an invalid configuration up front
+        this.width = width;
+        this.height = height;
+        this.winLength = winLength;
+    }
+
+    /**
+     * Creates an executor that starts a new thread per task: virtual threads where the JVM has them (Java 21+),
+     * otherwise a cached pool of platform threads.
+     *
+     * @return The executor.
+     */
+    public static ExecutorService newPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Returns the leaderboard shared by every session.
+     *
+     * @return The server's leaderboard.
+     */
+    public TicTacToeLeaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    /**
+     * Accepts connections until the server is stopped, starting a session for each.
+     *
+     * @param port The port to listen on, or 0 for any free port.
+     * @throws IOException if the port cannot be opened.
+     */
+    public void serve(int port) throws IOException {
+        try (ServerSocket server = new ServerSocket(port, 4096)) {
+            serverSocket = server;
+            while (!server.isClosed()) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (IOException e) {
+                    if (server.isClosed()) break; // stopped
+                    throw e;
+                }
+                sessions.execute(() -> runSession(socket));
+            }
+        } finally {
+            sessions.shutdown();
+        }
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return The local port, or -1 if the server has not started.
+     */
+    public int getPort() {
+        ServerSocket server = serverSocket;
+        return server == null ? -1 : server.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections. Sessions already running finish on their own.
+     *
+     * @throws IOException if the server socket cannot be closed.
+     */
+    public void stop() throws IOException {
+        ServerSocket server = serverSocket;
+        if (server != null) server.close();
+    }
+
+    /**
+     * Runs one connection's session until the client quits or disconnects.
+     *
+     * @param socket The client connection.
+     */
+    private void runSession(Socket socket) {
+        try (Socket client = socket;
+             InputStream in = new BufferedInputStream(client.getInputStream());
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.US_ASCII))) {
+            client.setTcpNoDelay(true); // replies are tiny, send them straight away
+
+            TicTacToeLogic game = new TicTacToeLogic(width, height, winLength, leaderboard);
+            reply(out, "HELLO " + width + " " + height + " " + winLength);
+
+            StringBuilder line = new StringBuilder(MAX_LINE + 1);
+            while (readLine(in, line)) {
+                if (line.length() > MAX_LINE) {
+                    reply(out, "ERR line too long");
+                    break;
+                }
+                String response = handle(game, line.toString().trim());
+                reply(out, response);
+                if (response.equals("BYE")) break;
+            }
+        } catch (IOException e) {
+            // client went away mid-session; nothing to clean up beyond the socket
+        }
+    }
+
+    /**
+     * Reads one line, without its terminator, into a buffer. Reading stops one character past MAX_LINE, so a client
+     * that never sends a newline costs at most that much memory.
+     *
+     * @param in The client's input.
+     * @param line Receives the line; longer than MAX_LINE if the line was cut off.
+     * @return false at the end of the input with nothing read; true otherwise.
+     * @throws IOException if the connection fails.
+     */
+    private static boolean readLine(InputStream in, StringBuilder line) throws IOException {
+        line.setLength(0);
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c < 0) return line.length() > 0;
+            line.append((char) c); // the protocol is ASCII
+            if (line.length() > MAX_LINE) return true;
+        }
+        return true;
+    }
+
+    /**
+     * Executes one protocol command against a session's game.
+     *
+     * @param game The session's game.
+     * @param command The command line, without the line terminator.
+     * @return The response line.
+     */
+    String handle(TicTacToeLogic game, String command) {
+        String[] parts = command.split(" +");
+        switch (parts[0].toUpperCase()) {
+            case "NEW":
+                game.clearBoard();
+                return "OK " + game.getCurrentPlayer();
+
+            case "MOVE":
+                return move(game, parts);
+
+            case "SCORE":
+                long[] scores = leaderboard.snapshot();
+                return "SCORE " + scores[0] + " " + scores[1] + " " + scores[2];
+
+            case "QUIT":
+                return "BYE";
+
+            default:
+                return "ERR unknown command";
+        }
+    }
+
+    /**
+     * Handles a MOVE command, rejecting moves TicTacToeLogic.makeMove would ignore.
+     */
+    private String move(TicTacToeLogic game, String[] parts) {
+        if (parts.length != 3) return "ERR usage: MOVE row col";
+
+        int row, col;
+        try {
+            row = Integer.parseInt(parts[1]);
+            col = Integer.parseInt(parts[2]);
+        } catch (NumberFormatException e) {
+            return "ERR row and col must be numbers";
+        }
+
+        TicTacToeGrid grid = game.getGrid();
+        if (row < 0 || row >= grid.getHeight() || col < 0 || col >= grid.getWidth()) return "ERR off the board";
+        if (!game.getWinner().equals(" ")) return "ERR game over";
+        if (!grid.isFree(grid.cell(row, col))) return "ERR square taken";
+
+        game.makeMove(row, col);
+
+        String winner = game.getWinner();
+        if (winner.equals("T")) return "TIE";
+        if (!winner.equals(" ")) return "WIN " + winner;
+        return "OK " + game.getCurrentPlayer();
+    }
+
+    private static void reply(PrintWriter out, String line) {
+        out.print(line);
+        out.print('\n');
+        out.flush();
+    }
+
+    /**
+     * Starts a server from the command line.
+     *
+     * @param args [port] [width height winLength]
+     * @throws IOException if the port cannot be opened.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int width = args.length > 1 ? Integer.parseInt(args[1]) : TicTacToeBoard.SIZE;
+        int height = args.length > 2 ? Integer.parseInt(args[2]) : width;
+        int winLength = args.length > 3 ? Integer.parseInt(args[3]) : Math.min(TicTacToeBoard.SIZE, Math.min(width, height));
+
+        TicTacToeServer server = new TicTacToeServer(width, height, winLength);
+        System.out.println("Serving " + width + "x" + height + " (" + winLength + " in a row) games on port " + port);
+        server.serve(port);
+    }
+}
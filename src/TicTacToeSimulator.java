@@ -0,0 +1,160 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Command line self-play runner. Plays N games headlessly on the TicTacToeBoard engine, split across every core with
+ * a ForkJoinPool, and merges X wins, O wins and ties into a TicTacToeLeaderboard, the same tally TicTacToeLogic
+ * reports, along with games per second. Each task gets its own random generator split from the parent and only
+ * touches the leaderboard once when it finishes, so workers share nothing while a run is still reproducible from
+ * its seed.
+ *
+ * Usage: java TicTacToeSimulator [games] [threads] [X strategy] [O strategy] [seed]
+ * where a strategy is "random" (uniform random legal moves) or "perfect" (TicTacToeAI).
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeSimulator
+{
+    // Move strategies
+    public static final int RANDOM = 0;
+    public static final int PERFECT = 1;
+
+    // Games a task plays itself rather than splitting further
+    private static final long LEAF_GAMES = 1 << 14;
+
+    /**
+     * Plays a range of games, splitting it in half until it is small enough to play directly.
+     */
+    private static class GamesTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final long games;
+        private final int xStrategy;
+        private final int oStrategy;
+        private final SplittableRandom random;
+        private final TicTacToeLeaderboard leaderboard;
+
+        GamesTask(long games, int xStrategy, int oStrategy, SplittableRandom random, TicTacToeLeaderboard leaderboard) {
+            this.games = games;
+            this.xStrategy = xStrategy;
+            this.oStrategy = oStrategy;
+            this.random = random;
+            this.leaderboard = leaderboard;
+        }
+
+        @Override
+        protected void compute() {
+            if (games <= LEAF_GAMES) {
+                long xWins = 0, oWins = 0, ties = 0;
+                for (long i = 0; i < games; i++) {
+                    int winner = playGame(random, xStrategy, oStrategy);
+                    if (winner == TicTacToeBoard.X) xWins++;
+                    else if (winner == TicTacToeBoard.O) oWins++;
+                    else ties++;
+                }
+                leaderboard.add(TicTacToeLeaderboard.Outcome.X_WIN, xWins);
+                leaderboard.add(TicTacToeLeaderboard.Outcome.O_WIN, oWins);
+                leaderboard.add(TicTacToeLeaderboard.Outcome.TIE, ties);
+                return;
+            }
+
+            long half = games / 2;
+            invokeAll(new GamesTask(half, xStrategy, oStrategy, random.split(), leaderboard),
+                    new GamesTask(games - half, xStrategy, oStrategy, random, leaderboard));
+        }
+    }
+
+    private TicTacToeSimulator() {}
+
+    /**
+     * Plays games in parallel and adds the results to a leaderboard.
+     *
+     * @param games Number of games to play.
+     * @param pool Pool to run the games on.
+     * @param xStrategy RANDOM or PERFECT for X.
+     * @param oStrategy RANDOM or PERFECT for O.
+     * @param seed Seed for the random moves.
+     * @param leaderboard The leaderboard to add the results to.
+     */
+    public static void simulate(long games, ForkJoinPool pool, int xStrategy, int oStrategy, long seed,
+                                TicTacToeLeaderboard leaderboard) {
+        pool.invoke(new GamesTask(games, xStrategy, oStrategy, new SplittableRandom(seed), leaderboard));
+    }
+
+    /**
+     * Plays one game from the empty board.
+     *
+     * @param random The worker's random generator.
+     * @param xStrategy RANDOM or PERFECT for X.
+     * @param oStrategy RANDOM or PERFECT for O.
+     * @return The result: TicTacToeBoard.X, O or TIE.
+     */
+    public static int playGame(SplittableRandom random, int xStrategy, int oStrategy) {
+        int position = TicTacToeBoard.EMPTY_POSITION;
+        int player = TicTacToeBoard.X;
+        while (true) {
+            int cell = (player == TicTacToeBoard.X ? xStrategy : oStrategy) == PERFECT
+                    ? TicTacToeAI.bestMove(position)
+                    : randomMove(random, position);
+            position = TicTacToeBoard.play(position, cell, player);
+
+            if (TicTacToeBoard.isWinningMove(position, cell)) return player;
+            if (TicTacToeBoard.freeSquares(position) == 0) return TicTacToeBoard.TIE;
+            player = TicTacToeBoard.opponent(player);
+        }
+    }
+
+    /**
+     * Picks a uniformly random free square.
+     */
+    private static int randomMove(SplittableRandom random, int position) {
+        int free = ~TicTacToeBoard.occupied(position) & TicTacToeBoard.FULL;
+        for (int skip = random.nextInt(Integer.bitCount(free)); skip > 0; skip--) {
+            free &= free - 1; // drop the lowest free square
+        }
+        return Integer.numberOfTrailingZeros(free);
+    }
+
+    private static int parseStrategy(String strategy) {
+        switch (strategy) {
+            case "random":
+                return RANDOM;
+            case "perfect":
+                return PERFECT;
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + strategy + " (expected random or perfect)");
+        }
+    }
+
+    /**
+     * Runs the simulation from the command line and prints the tally and throughput.
+     *
+     * @param args [games] [threads] [X strategy] [O strategy] [seed]
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int xStrategy = args.length > 2 ? parseStrategy(args[2]) : RANDOM;
+        int oStrategy = args.length > 3 ? parseStrategy(args[3]) : RANDOM;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+
+        TicTacToeAI.bestMove(TicTacToeBoard.EMPTY_POSITION); // solve the table before timing starts
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            TicTacToeLeaderboard leaderboard = new TicTacToeLeaderboard();
+            simulate(games, pool, xStrategy, oStrategy, seed, leaderboard);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long[] results = leaderboard.snapshot();
+            System.out.println("Games: " + games + " on " + threads + " threads in " + String.format("%.3f", seconds) + " s");
+            System.out.println("Leaderboard - X: " + results[0] + " | O: " + results[1] + " | Ties: " + results[2]);
+            System.out.println(String.format("%,.0f games/s", games / seconds));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
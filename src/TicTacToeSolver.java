@@ -0,0 +1,219 @@
+/**
+ * Exact solver for m,n,k positions: negamax with alpha-beta pruning over a transposition table keyed by Zobrist
+ * hash. Works on any board size, but gives up once it has visited a given number of positions, so callers can ask
+ * for a proof without risking an endless search on boards too big to solve. Scores follow TicTacToeAI: a win scores
+ * 1 + the squares left free after it, a loss the negative, a draw 0.
+ *
+ * Two rules prune the move list without losing exactness: a move that wins on the spot is taken, and when the
+ * opponent threatens to win next move only the block is searched (two threats at once are a lost position).
+ *
+ * Results are cached in an off-heap TicTacToeTranspositionTable, which may be kept across solves and shared by
+ * solvers of the same board configuration.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeSolver
+{
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private static final int INFINITY = Short.MAX_VALUE;
+
+    // Class instance variables
+    private final TicTacToeZobrist zobrist;
+    private final TicTacToeTranspositionTable table;
+
+    private TicTacToeGrid grid;
+    private long nodes;
+    private long nodeBudget;
+    private boolean aborted;
+    private int bestMove;
+    private int score;
+
+    /**
+     * Constructor for a solver of one board size with its own table, sized by -Dtictactoe.tt.mb.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     */
+    public TicTacToeSolver(int width, int height) {
+        this(width, height, new TicTacToeTranspositionTable());
+    }
+
+    /**
+     * Constructor for a solver of one board size.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     * @param table The transposition table; it must only hold results for this board size and win length.
+     */
+    public TicTacToeSolver(int width, int height, TicTacToeTranspositionTable table) {
+        if (width * height > Short.MAX_VALUE / 2) throw new IllegalArgumentException("Board too large to solve: " + width + "x" + height);
+        zobrist = TicTacToeZobrist.forSize(width, height);
+        this.table = table;
+    }
+
+    /**
+     * Solves a position, if it can be done within the node budget.
+     *
+     * @param position The board; it is not modified.
+     * @param player The player to move, TicTacToeBoard.X or O.
+     * @param maxNodes Maximum number of positions to visit, or 0 for no limit.
+     * @return true if the position was solved; getScore() and getBestMove() then hold the answer.
+     */
+    public boolean solve(TicTacToeGrid position, int player, long maxNodes) {
+        return solve(position, player, zobrist.hash(position), maxNodes);
+    }
+
+    /**
+     * Solves a position whose Zobrist key is already known, such as the key TicTacToeLogic keeps up to date with
+     * every move, so the board need not be hashed again.
+     *
+     * @param position The board to solve; it is copied, not modified.
+     * @param player The player to move, TicTacToeBoard.X or O.
+     * @param key The position's key under getZobrist().
+     * @param maxNodes Maximum number of positions to visit, or 0 for no limit.
+     * @return true if the position was solved; getScore() and getBestMove() then hold the answer.
+     */
+    public boolean solve(TicTacToeGrid position, int player, long key, long maxNodes) {
+        grid = new TicTacToeGrid(position);
+        nodes = 0;
+        nodeBudget = maxNodes > 0 ? maxNodes : Long.MAX_VALUE;
+        aborted = false;
+        bestMove = -1;
+
+        int value = negamax(player, key, -INFINITY, INFINITY, true);
+        score = aborted ? UNKNOWN : value;
+        return !aborted;
+    }
+
+    /**
+     * Returns the score of the last solved position for the player to move.
+     *
+     * @return The score, or UNKNOWN if the last search ran out of budget.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the best move found by the last solve.
+     *
+     * @return The square index, or -1 if the board was full or the search ran out of budget.
+     */
+    public int getBestMove() {
+        return aborted ? -1 : bestMove;
+    }
+
+    /**
+     * Returns the number of positions visited by the last solve.
+     *
+     * @return The node count.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the Zobrist keys the solver hashes positions with.
+     *
+     * @return The keys for this board size.
+     */
+    public TicTacToeZobrist getZobrist() {
+        return zobrist;
+    }
+
+    /**
+     * Returns the transposition table, e.g. for its hit and miss counts.
+     *
+     * @return The table.
+     */
+    public TicTacToeTranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Negamax search with alpha-beta pruning; the board is changed in place and restored before returning.
+     */
+    private int negamax(int player, long key, int alpha, int beta, boolean root) {
+        if (++nodes > nodeBudget) {
+            aborted = true;
+            return 0;
+        }
+        int free = grid.getFreeSquares();
+        if (free == 0) return 0; // board full without a line, draw
+        int cells = grid.getCellCount();
+        int opponent = TicTacToeBoard.opponent(player);
+
+        // A win on the spot needs no search
+        for (int cell = 0; cell < cells; cell++) {
+            if (!grid.isFree(cell)) continue;
+            grid.place(cell, player);
+            boolean win = grid.isWinningMove(cell);
+            grid.remove(cell);
+            if (win) {
+                if (root) bestMove = cell;
+                return free; // 1 + (free - 1) squares left after the move
+            }
+        }
+
+        // Opponent threats: one must be blocked, two cannot be
+        int threats = 0;
+        int block = -1;
+        for (int cell = 0; cell < cells && threats < 2; cell++) {
+            if (!grid.isFree(cell)) continue;
+            grid.place(cell, opponent);
+            if (grid.isWinningMove(cell)) {
+                threats++;
+                block = cell;
+            }
+            grid.remove(cell);
+        }
+        if (threats >= 2) {
+            if (root) bestMove = block;
+            return -(free - 1); // opponent wins next move with free - 2 squares left
+        }
+
+        int alphaOrig = alpha;
+        int hashMove = -1;
+        long entry = table.probe(key);
+        if (entry != TicTacToeTranspositionTable.NOT_FOUND) {
+            int value = TicTacToeTranspositionTable.value(entry);
+            int bound = TicTacToeTranspositionTable.bound(entry);
+            hashMove = TicTacToeTranspositionTable.move(entry);
+            if (!root) {
+                if (bound == TicTacToeTranspositionTable.EXACT) return value;
+                if (bound == TicTacToeTranspositionTable.LOWER) alpha = Math.max(alpha, value);
+                else beta = Math.min(beta, value);
+                if (alpha >= beta) return value;
+            }
+        }
+
+        int best = -INFINITY;
+        int bestCell = -1;
+        int first = threats == 1 ? block : hashMove;
+        for (int i = -1; i < cells; i++) {
+            int cell = i < 0 ? first : i;
+            if (cell < 0 || (i >= 0 && (cell == first || threats == 1)) || !grid.isFree(cell)) continue;
+
+            grid.place(cell, player);
+            int value = -negamax(opponent, key ^ zobrist.key(cell, player), -beta, -alpha, false);
+            grid.remove(cell);
+            if (aborted) return 0;
+
+            if (value > best) {
+                best = value;
+                bestCell = cell;
+                if (best > alpha) alpha = best;
+                if (alpha >= beta) break; // cut-off, opponent will avoid this line
+            }
+        }
+        if (root) bestMove = bestCell;
+
+        // Store with the bound type the window allows; positions with more squares left cost more to search again
+        int bound = best <= alphaOrig ? TicTacToeTranspositionTable.UPPER
+                : best >= beta ? TicTacToeTranspositionTable.LOWER : TicTacToeTranspositionTable.EXACT;
+        table.store(key, best, bestCell, bound, free);
+        return best;
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Maps Tic Tac Toe positions onto a canonical representative of their symmetry class. The board has 8 symmetries
+ * (4 rotations and 4 reflections); the canonical position is the lowest packed value among the 8 transforms.
+ * Transforms are applied to whole 9-bit masks through lookup tables, so canonicalizing never copies a board.
+ * The transform that was used is returned with the canonical position, so a move found on the canonical board
+ * can be mapped back onto the real one.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public final class TicTacToeSymmetry
+{
+    public static final int TRANSFORMS = 8;
+
+    private static final int POSITION_BITS = 2 * TicTacToeBoard.CELLS; // bits used by a packed position
+    private static final int POSITION_MASK = (1 << POSITION_BITS) - 1;
+
+    // CELL_MAP[t][cell] is where transform t moves a square, CELL_UNMAP[t] is the inverse
+    private static final int[][] CELL_MAP = new int[TRANSFORMS][TicTacToeBoard.CELLS];
+    private static final int[][] CELL_UNMAP = new int[TRANSFORMS][TicTacToeBoard.CELLS];
+
+    // MASK_MAP[t][mask] is the 9-bit mask after transform t
+    private static final int[][] MASK_MAP = new int[TRANSFORMS][1 << TicTacToeBoard.CELLS];
+
+    static {
+        int last = TicTacToeBoard.SIZE - 1;
+        for (int t = 0; t < TRANSFORMS; t++) {
+            for (int row = 0; row < TicTacToeBoard.SIZE; row++) {
+                for (int col = 0; col < TicTacToeBoard.SIZE; col++) {
+                    int r, c;
+                    switch (t) {
+                        case 0: r = row; c = col; break;               // identity
+                        case 1: r = col; c = last - row; break;        // rotate 90
+                        case 2: r = last - row; c = last - col; break; // rotate 180
+                        case 3: r = last - col; c = row; break;        // rotate 270
+                        case 4: r = row; c = last - col; break;        // mirror left-right
+                        case 5: r = last - row; c = col; break;        // mirror top-bottom
+                        case 6: r = col; c = row; break;               // main diagonal
+                        default: r = last - col; c = last - row; break; // anti-diagonal
+                    }
+                    int from = TicTacToeBoard.cell(row, col);
+                    int to = TicTacToeBoard.cell(r, c);
+                    CELL_MAP[t][from] = to;
+                    CELL_UNMAP[t][to] = from;
+                }
+            }
+
+            for (int mask = 1; mask < MASK_MAP[t].length; mask++) {
+                int low = Integer.numberOfTrailingZeros(mask);
+                MASK_MAP[t][mask] = MASK_MAP[t][mask & (mask - 1)] | (1 << CELL_MAP[t][low]);
+            }
+        }
+    }
+
+    private TicTacToeSymmetry() {}
+
+    /**
+     * Applies a transform to a position.
+     *
+     * @param transform The transform (0-7).
+     * @param position The packed TicTacToeBoard position.
+     * @return The transformed position.
+     */
+    public static int apply(int transform, int position) {
+        return MASK_MAP[transform][TicTacToeBoard.xMask(position)]
+                | MASK_MAP[transform][TicTacToeBoard.oMask(position)] << TicTacToeBoard.CELLS;
+    }
+
+    /**
+     * Finds the canonical form of a position. The result packs the canonical position in its low 18 bits and
+     * the transform that produced it above them; use position() and transform() to unpack it.
+     *
+     * @param position The packed TicTacToeBoard position.
+     * @return The canonical position and transform, packed into one int.
+     */
+    public static int canonicalize(int position) {
+        int x = TicTacToeBoard.xMask(position);
+        int o = TicTacToeBoard.oMask(position);
+        int best = position;
+        int bestTransform = 0;
+        for (int t = 1; t < TRANSFORMS; t++) {
+            int candidate = MASK_MAP[t][x] | MASK_MAP[t][o] << TicTacToeBoard.CELLS;
+            if (candidate < best) {
+                best = candidate;
+                bestTransform = t;
+            }
+        }
+        return bestTransform << POSITION_BITS | best;
+    }
+
+    /**
+     * Returns the canonical form of a position without the transform.
+     *
+     * @param position The packed TicTacToeBoard position.
+     * @return The canonical position.
+     */
+    public static int canonical(int position) {
+        return position(canonicalize(position));
+    }
+
+    /**
+     * Extracts the canonical position from a canonicalize() result.
+     *
+     * @param key Result of canonicalize().
+     * @return The canonical position.
+     */
+    public static int position(int key) {
+        return key & POSITION_MASK;
+    }
+
+    /**
+     * Extracts the transform from a canonicalize() result.
+     *
+     * @param key Result of canonicalize().
+     * @return The transform (0-7) taking the real board to the canonical board.
+     */
+    public static int transform(int key) {
+        return key >>> POSITION_BITS;
+    }
+
+    /**
+     * Maps a square on the real board to the canonical board.
+     *
+     * @param transform The transform from canonicalize().
+     * @param cell The square index on the real board.
+     * @return The square index on the canonical board.
+     */
+    public static int mapCell(int transform, int cell) {
+        return CELL_MAP[transform][cell];
+    }
+
+    /**
+     * Maps a square on the canonical board back to the real board.
+     *
+     * @param transform The transform from canonicalize().
+     * @param cell The square index on the canonical board.
+     * @return The square index on the real board.
+     */
+    public static int unmapCell(int transform, int cell) {
+        return CELL_UNMAP[transform][cell];
+    }
+}
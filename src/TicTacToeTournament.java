@@ -0,0 +1,247 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Plays TicTacToePlayers against each other and rates them, to tell whether a change to an engine really makes it
+ * stronger. Each round pairs the players either round-robin (everyone meets everyone) or Swiss (players are sorted
+ * by rating and each meets the nearest player they have played least), and every pairing is played twice with the
+ * colours swapped. The games of a round run in parallel on a pool of worker threads, each with its own instance of
+ * every player; the instances are closed when the run ends.
+ *
+ * Results are handed to a listener game by game and round by round as they come in, and only a head-to-head table is
+ * kept (see TicTacToeRatings), so a run of millions of games uses the same memory as a run of ten.
+ *
+ * Usage: java TicTacToeTournament [rounds] [roundrobin|swiss] [width height winLength] [threads] [games.csv]
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeTournament
+{
+    /**
+     * How players are paired each round.
+     */
+    public enum Pairing
+    {
+        ROUND_ROBIN, SWISS
+    }
+
+    /**
+     * Receives results as the tournament runs. Called from the thread that called run().
+     */
+    public interface Listener
+    {
+        /**
+         * Called after every game.
+         *
+         * @param round The round, from 1.
+         * @param x Name of the player who had X.
+         * @param o Name of the player who had O.
+         * @param winner TicTacToeBoard.X, O or TIE.
+         */
+        default void gameFinished(int round, String x, String o, int winner) {}
+
+        /**
+         * Called after every round.
+         *
+         * @param round The round, from 1.
+         * @param ratings Results so far.
+         */
+        default void roundFinished(int round, TicTacToeRatings ratings) {}
+    }
+
+    // Class instance variables
+    private final List<String> names = new ArrayList<>();
+    private final List<ThreadLocal<TicTacToePlayer>> players = new ArrayList<>(); // one instance per worker thread
+    private final Queue<TicTacToePlayer> created = new ConcurrentLinkedQueue<>(); // instances to close after a run
+    private final ThreadLocal<TicTacToeGrid> boards;
+
+    /**
+     * Constructor for a tournament on one board configuration.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     * @param winLength Number of marks in a row needed to win.
+     */
+    public TicTacToeTournament(int width, int height, int winLength) {
+        boards = ThreadLocal.withInitial(() -> new TicTacToeGrid(width, height, winLength));
+    }
+
+    /**
+     * Enters a player. The factory is called once on each worker thread of a run, so players need not be
+     * thread-safe; the players it creates are closed when the run ends.
+     *
+     * @param name The name results are listed under.
+     * @param factory Creates the player.
+     */
+    public void addPlayer(String name, Supplier<TicTacToePlayer> factory) {
+        if (names.contains(name)) throw new IllegalArgumentException("Player already entered: " + name);
+        names.add(name);
+        players.add(ThreadLocal.withInitial(() -> {
+            TicTacToePlayer player = factory.get();
+            created.add(player);
+            return player;
+        }));
+    }
+
+    /**
+     * Plays the tournament.
+     *
+     * @param rounds Number of rounds.
+     * @param pairing How players are paired each round.
+     * @param threads Number of games played at once.
+     * @param listener Receives results as they come in, or null.
+     * @return The final results.
+     */
+    public TicTacToeRatings run(int rounds, Pairing pairing, int threads, Listener listener) {
+        if (names.size() < 2) throw new IllegalArgumentException("A tournament needs at least 2 players");
+        TicTacToeRatings ratings = new TicTacToeRatings(names.toArray(new String[0]));
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "tournament-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ExecutorCompletionService<int[]> games = new ExecutorCompletionService<>(workers);
+        try {
+            for (int round = 1; round <= rounds; round++) {
+                List<int[]> pairs = pairing == Pairing.SWISS ? swissPairs(ratings) : roundRobinPairs();
+                for (int[] pair : pairs) {
+                    games.submit(() -> playGame(pair[0], pair[1]));
+                    games.submit(() -> playGame(pair[1], pair[0]));
+                }
+
+                // Results are recorded here, on one thread, in the order they finish
+                for (int i = 0; i < pairs.size() * 2; i++) {
+                    int[] game = games.take().get(); // x, o, winner
+                    ratings.record(game[0], game[1], game[2]);
+                    if (listener != null) listener.gameFinished(round, names.get(game[0]), names.get(game[1]), game[2]);
+                }
+                if (listener != null) listener.roundFinished(round, ratings);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Game failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+            for (TicTacToePlayer player; (player = created.poll()) != null; ) player.close();
+        }
+        return ratings;
+    }
+
+    /**
+     * Every player against every other.
+     */
+    private List<int[]> roundRobinPairs() {
+        List<int[]> pairs = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            for (int j = i + 1; j < names.size(); j++) pairs.add(new int[]{i, j});
+        }
+        return pairs;
+    }
+
+    /**
+     * Players sorted by rating; going down the list, each unpaired player meets the nearest unpaired player below
+     * them that they have played least, so pairings do not lock in after the first round and every pair meets
+     * before any pair meets again. With an odd number of players the lowest rated left over sits the round out.
+     */
+    private List<int[]> swissPairs(TicTacToeRatings ratings) {
+        List<Integer> order = new ArrayList<>();
+        for (TicTacToeRatings.Rating rating : ratings.compute()) order.add(names.indexOf(rating.getName()));
+        List<int[]> pairs = new ArrayList<>();
+        while (order.size() > 1) {
+            int player = order.remove(0);
+            int best = 0;
+            for (int i = 1; i < order.size(); i++) {
+                if (ratings.getGames(player, order.get(i)) < ratings.getGames(player, order.get(best))) best = i;
+            }
+            pairs.add(new int[]{player, order.remove(best)});
+        }
+        return pairs;
+    }
+
+    /**
+     * Plays one game on the worker thread's board. A player that resigns or picks an illegal square loses.
+     *
+     * @return x, o and the winner.
+     */
+    private int[] playGame(int x, int o) {
+        TicTacToeGrid grid = boards.get();
+        grid.clear();
+        TicTacToePlayer[] sides = {null, players.get(x).get(), players.get(o).get()};
+        int player = TicTacToeBoard.X;
+        int winner = TicTacToeBoard.EMPTY;
+        while (winner == TicTacToeBoard.EMPTY) {
+            int cell = sides[player].chooseMove(grid, player);
+            if (cell < 0 || cell >= grid.getCellCount() || !grid.isFree(cell)) {
+                winner = TicTacToeBoard.opponent(player); // forfeit
+            } else {
+                grid.place(cell, player);
+                if (grid.isWinningMove(cell)) winner = player;
+                else if (grid.getFreeSquares() == 0) winner = TicTacToeBoard.TIE;
+                player = TicTacToeBoard.opponent(player);
+            }
+        }
+        return new int[]{x, o, winner};
+    }
+
+    /**
+     * Runs a tournament between the computer players from the command line, printing the standings 20 times along
+     * the way and optionally writing every game to a CSV file.
+     *
+     * @param args [rounds] [roundrobin|swiss] [width height winLength] [threads] [games.csv]
+     * @throws IOException if the CSV file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        Pairing pairing = args.length > 1 && args[1].equals("swiss") ? Pairing.SWISS : Pairing.ROUND_ROBIN;
+        int width = args.length > 2 ? Integer.parseInt(args[2]) : TicTacToeBoard.SIZE;
+        int height = args.length > 3 ? Integer.parseInt(args[3]) : width;
+        int winLength = args.length > 4 ? Integer.parseInt(args[4]) : Math.min(TicTacToeBoard.SIZE, Math.min(width, height));
+        int threads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+
+        TicTacToeTournament tournament = new TicTacToeTournament(width, height, winLength);
+        tournament.addPlayer("random", () -> TicTacToePlayer.random(ThreadLocalRandom.current().nextLong()));
+        tournament.addPlayer("perfect", () -> TicTacToePlayer.perfect(TicTacToeLogic.SOLVER_NODES, ThreadLocalRandom.current().nextLong()));
+        tournament.addPlayer("mcts-100", () -> TicTacToePlayer.mcts(100));
+        tournament.addPlayer("mcts-1000", () -> TicTacToePlayer.mcts(1000));
+
+        PrintWriter csv = args.length > 6
+                ? new PrintWriter(Files.newBufferedWriter(Paths.get(args[6]), StandardCharsets.UTF_8))
+                : null;
+        if (csv != null) csv.println("round,x,o,winner");
+        int reportEvery = Math.max(1, rounds / 20);
+        long start = System.nanoTime();
+        try {
+            tournament.run(rounds, pairing, threads, new Listener() {
+                @Override
+                public void gameFinished(int round, String x, String o, int winner) {
+                    if (csv != null) csv.println(round + "," + x + "," + o + "," + TicTacToeBoard.symbol(winner));
+                }
+
+                @Override
+                public void roundFinished(int round, TicTacToeRatings ratings) {
+                    if (round % reportEvery != 0 && round != rounds) return;
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    System.out.println(String.format("Round %d: %,d games in %.1f s", round, ratings.getGames(), seconds));
+                    for (TicTacToeRatings.Rating rating : ratings.compute()) System.out.println("  " + rating);
+                }
+            });
+        } finally {
+            if (csv != null) csv.close();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size transposition table for search results, keyed by Zobrist hash and held in a direct ByteBuffer outside
+ * the Java heap. A large table therefore adds nothing to garbage collection work, however full it gets.
+ *
+ * The table is split into 32-byte buckets of two 16-byte slots. The first slot prefers depth: a new result only
+ * replaces it when it was searched at least as deep as the one already there. The second slot always takes whatever
+ * did not go into the first. Old results are simply overwritten, so the table never grows and never needs cleaning.
+ *
+ * Any number of threads may read and write without locking. Each slot stores its data word and the key XORed with
+ * that word. A reader only accepts a slot when the two words XOR back to the key it is looking for, so a slot torn by
+ * two writers at once is treated as a miss rather than returning another position's result.
+ *
+ * The size comes from -Dtictactoe.tt.mb (default 16) unless given to the constructor. Games share one table per board
+ * configuration through forGrid(), so many sessions in one server do not each hold their own.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public final class TicTacToeTranspositionTable
+{
+    public static final long DEFAULT_BYTES = Long.getLong("tictactoe.tt.mb", 16) << 20;
+    public static final long MAX_BYTES = 1L << 30; // a ByteBuffer is indexed by int
+    public static final long NOT_FOUND = 0; // probe() result for a position with no entry
+
+    // Bound types
+    public static final int EXACT = 1;
+    public static final int LOWER = 2;
+    public static final int UPPER = 3;
+
+    private static final int SLOT_BYTES = 16;   // long check | long data
+    private static final int BUCKET_BYTES = 2 * SLOT_BYTES;
+
+    // Shared tables, one per board configuration
+    private static final Map<String, TicTacToeTranspositionTable> TABLES = new ConcurrentHashMap<>();
+
+    // Class instance variables
+    private final ByteBuffer table;
+    private final int bucketMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    /**
+     * Constructor for a table of the size set by -Dtictactoe.tt.mb.
+     */
+    public TicTacToeTranspositionTable() {
+        this(DEFAULT_BYTES);
+    }
+
+    /**
+     * Constructor for a table of a given size. The size is rounded down to a power of two.
+     *
+     * @param bytes Memory to use, between 32 bytes and MAX_BYTES.
+     */
+    public TicTacToeTranspositionTable(long bytes) {
+        if (bytes < BUCKET_BYTES || bytes > MAX_BYTES) {
+            throw new IllegalArgumentException("Transposition table size out of range: " + bytes + " bytes");
+        }
+        int buckets = Integer.highestOneBit((int) (bytes / BUCKET_BYTES));
+        table = ByteBuffer.allocateDirect(buckets * BUCKET_BYTES).order(ByteOrder.nativeOrder());
+        bucketMask = buckets - 1;
+    }
+
+    /**
+     * Returns the table shared by every game of a board's configuration, creating it the first time.
+     *
+     * @param grid Any board of the configuration.
+     * @return The shared table.
+     */
+    public static TicTacToeTranspositionTable forGrid(TicTacToeGrid grid) {
+        String name = grid.getWidth() + "x" + grid.getHeight() + "x" + grid.getWinLength();
+        return TABLES.computeIfAbsent(name, n -> new TicTacToeTranspositionTable());
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param key The position's Zobrist hash.
+     * @return The entry, to be read with value(), move(), bound() and depth(), or NOT_FOUND.
+     */
+    public long probe(long key) {
+        int bucket = bucket(key);
+        boolean occupied = false;
+        for (int slot = bucket; slot < bucket + BUCKET_BYTES; slot += SLOT_BYTES) {
+            long data = table.getLong(slot + 8);
+            if ((table.getLong(slot) ^ data) == key && data != NOT_FOUND) {
+                hits.increment();
+                return data;
+            }
+            occupied |= data != NOT_FOUND;
+        }
+        if (occupied) collisions.increment(); // another position holds this bucket
+        misses.increment();
+        return NOT_FOUND;
+    }
+
+    /**
+     * Stores a search result.
+     *
+     * @param key The position's Zobrist hash.
+     * @param value The score, within the range of a short.
+     * @param move The best move found, or -1.
+     * @param bound EXACT, LOWER or UPPER.
+     * @param depth How much search the result represents, e.g. the squares that were left to fill (0-65535).
+     */
+    public void store(long key, int value, int move, int bound, int depth) {
+        int bucket = bucket(key);
+        long data = (value & 0xFFFFL) | (move & 0xFFFFL) << 16 | (long) bound << 32 | (depth & 0xFFFFL) << 40;
+
+        // A deeper result for another position keeps the first slot. Probes read the first slot first, so an older
+        // copy of this position left in the second slot is hidden; it is still a valid bound if it resurfaces
+        long first = table.getLong(bucket + 8);
+        boolean keepFirst = first != NOT_FOUND && (table.getLong(bucket) ^ first) != key && depth(first) > depth;
+        int slot = keepFirst ? bucket + SLOT_BYTES : bucket;
+        table.putLong(slot, key ^ data);
+        table.putLong(slot + 8, data);
+    }
+
+    private int bucket(long key) {
+        return ((int) key & bucketMask) * BUCKET_BYTES;
+    }
+
+    /**
+     * Returns the score held by an entry.
+     *
+     * @param entry A probe() result.
+     * @return The score.
+     */
+    public static int value(long entry) {
+        return (short) entry;
+    }
+
+    /**
+     * Returns the best move held by an entry.
+     *
+     * @param entry A probe() result.
+     * @return The square index, or -1.
+     */
+    public static int move(long entry) {
+        return (short) (entry >>> 16);
+    }
+
+    /**
+     * Returns the bound type of an entry's score.
+     *
+     * @param entry A probe() result.
+     * @return EXACT, LOWER or UPPER.
+     */
+    public static int bound(long entry) {
+        return (int) (entry >>> 32) & 0xFF;
+    }
+
+    /**
+     * Returns the depth an entry was stored with.
+     *
+     * @param entry A probe() result.
+     * @return The depth.
+     */
+    public static int depth(long entry) {
+        return (int) (entry >>> 40) & 0xFFFF;
+    }
+
+    /**
+     * Empties the table and resets its statistics.
+     */
+    public void clear() {
+        for (int i = 0; i < table.capacity(); i += 8) table.putLong(i, 0);
+        hits.reset();
+        misses.reset();
+        collisions.reset();
+    }
+
+    /**
+     * Returns the number of entries the table can hold.
+     *
+     * @return Two per bucket.
+     */
+    public int getCapacity() {
+        return (bucketMask + 1) * 2;
+    }
+
+    /**
+     * Returns the memory held outside the heap.
+     *
+     * @return The table size in bytes.
+     */
+    public long getBytes() {
+        return table.capacity();
+    }
+
+    /**
+     * Returns the number of probes that found their position.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of probes that did not find their position.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of misses where the bucket was holding other positions, i.e. where the position was
+     * evicted or shares its bucket with ones stored since.
+     *
+     * @return The collision count.
+     */
+    public long getCollisions() {
+        return collisions.sum();
+    }
+}
@@ -1,16 +1,11 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.IOException;
-import java.net.URL;
+import java.util.Arrays;
 
 /**
- * UI Class for TicTacToe game, operates using TicTacToe Logic, but UI can be changed independently of logic.
+ * UI Class for TicTacToe game, operates using TicTacToe Logic, but UI can be changed independently of logic. The game
+ * runs on a TicTacToePipeline off the EDT, and the UI only draws the snapshots it publishes.
  *
  * @author Ethan Ashworth
  * @version April-6th-2024
@@ -21,101 +16,80 @@ public class TicTacToeUI
     // Class instance variables
     private JFrame frame;
 
-    private JPanel boardPanel;
     private JPanel StatusPanel;
 
     private JLabel statusLabel;
     private JLabel leaderboardLabel;
-    private static JLabel winAnimationLabel;
+    private JLabel debugLabel; // debug overlay: move latency and EDT queue depth
+    private Timer debugTimer;
 
-    private JLayeredPane layeredPane;
+    private static TicTacToeBoardView boardView; // board and win animations, painted as one component
     private Dimension dimensions;
 
-    private TicTacToeButton[][] buttons = new TicTacToeButton[3][3];
+    private int boardWidth;
+    private int boardHeight;
+    private int winLength;
 
-    private TicTacToeLogic gameLogic;
+    private TicTacToePipeline pipeline; // runs the game and the computer off the EDT
+    private TicTacToeGrid shownGrid; // the board as last published to the EDT, drawn by the board view
+    private long[] shownScores; // the leaderboard as last published to the EDT
+    private TicTacToeLeaderboardStore leaderboardStore;
 
-    private static Clip moveSound;
-    private static Clip winSound;
-    private static Clip tieSound;
+    private static TicTacToeMixer mixer;
 
     private static ImageIcon Xwin;
     private static ImageIcon Owin;
     private static ImageIcon Tie;
 
-    private static ImageIcon xIcon, oIcon, blankIcon;
-
 
     /**
-     * Constructor for objects of class TicTacToeUI
+     * Constructor for objects of class TicTacToeUI, playing classic 3x3 Tic Tac Toe.
      */
     public TicTacToeUI()
     {
-        initializeUI(); // sets up UI
-        gameLogic = new TicTacToeLogic(buttons); // pass the buttons array to logic
+        this(TicTacToeBoard.SIZE, TicTacToeBoard.SIZE, TicTacToeBoard.SIZE);
     }
 
     /**
-     * Helper function for loading resources.
-     * Loads resources as URLs
-     * @param path filepath of resource to be loaded
-     * @return resource as a URL
+     * Constructor for objects of class TicTacToeUI, playing an m,n,k variant.
+     *
+     * @param boardWidth Number of columns on the board.
+     * @param boardHeight Number of rows on the board.
+     * @param winLength Number of marks in a row needed to win.
      */
-    private URL resourceLoader(String path) {
-        URL resource = TicTacToeUI.class.getClassLoader().getResource(path);
-        if (resource == null) {
-            System.out.println("Resource not found: " + path);
-            return null;
-        }
-        return resource;
-    }
+    public TicTacToeUI(int boardWidth, int boardHeight, int winLength)
+    {
+        this.boardWidth = boardWidth;
+        this.boardHeight = boardHeight;
+        this.winLength = winLength;
 
-    /**
-     * Helper function to load audio clips
-     * Uses resourceLoader
-     * @param path filepath of resource to be loaded
-     * @return Audio Clip as a Clip object
-     * @throws UnsupportedAudioFileException file format not supported
-     * @throws LineUnavailableException line unavailable (commonly due to use elsewhere)
-     * @throws IOException if file cannot be loaded/not found
-     */
-    private Clip createAudioClip(String path) throws UnsupportedAudioFileException, LineUnavailableException, IOException {
-        AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(resourceLoader(path));
-        Clip clip = AudioSystem.getClip();
-        clip.open(audioInputStream);
-        return clip;
+        shownGrid = new TicTacToeGrid(boardWidth, boardHeight, winLength);
+        initializeUI(); // sets up UI
+
+        // Restore saved totals so the leaderboard shows history straight away, and save the last results on exit
+        TicTacToeLogic gameLogic = new TicTacToeLogic(boardWidth, boardHeight, winLength);
+        leaderboardStore = new TicTacToeLeaderboardStore(TicTacToeLeaderboardStore.defaultPath(boardWidth, boardHeight, winLength));
+        leaderboardStore.loadInto(gameLogic.getScores());
+        Runtime.getRuntime().addShutdownHook(new Thread(leaderboardStore::close));
+        TicTacToeMetrics.register(); // metrics can be read and switched on over JMX
+
+        // From here on the game is only touched by the pipeline's thread; the UI draws the snapshots it publishes
+        pipeline = new TicTacToePipeline(gameLogic, this::render);
     }
 
     /**
      * Initializes the UI for Tic Tac Toe game. This includes setting up the game window, scaling and loading icons,
      * initializing sound effects, configuring UI elements (like the game board and status labels), and applying a custom font.
-     * Exception handling is in place for loading resources. The method creates and displays the game's JFrame, complete with
+     * Icons, animations, sounds and the font are loaded in the background by TicTacToeAssets while the frame is built and
+     * shown, and are put in place on the EDT once they have all loaded. The method creates and displays the game's JFrame, complete with
      * a layered pane for animations, a status panel for game info, and a configured game board.
      */
     private void initializeUI(){
         dimensions = new Dimension(708, 767); // Window dimensions
 
-        // initialize gifs
-        Xwin = new ImageIcon(resourceLoader("gif/Xwin.gif"));
-        Owin = new ImageIcon(resourceLoader("gif/Owin.gif"));
-        Tie = new ImageIcon(resourceLoader("gif/tie.gif"));
-
-        // Initialize icons with scaled images
-        int size = (int)(dimensions.getWidth()*0.34); // sets scaled size, found X0.34 was good size for each button scale
-
-        // Initialize icons with scaled images
-        blankIcon = new ImageIcon(new ImageIcon(resourceLoader("img/blank.png")).getImage().getScaledInstance(size, size, Image.SCALE_SMOOTH));
-        xIcon = new ImageIcon(new ImageIcon(resourceLoader("img/X.png")).getImage().getScaledInstance(size, size, Image.SCALE_SMOOTH));
-        oIcon = new ImageIcon(new ImageIcon(resourceLoader("img/O.png")).getImage().getScaledInstance(size, size, Image.SCALE_SMOOTH));
-
-        // Initialization for Sounds
-        try {
-            moveSound = createAudioClip("sound/MOVE.wav");
-            tieSound = createAudioClip("sound/TIE.wav");
-            winSound = createAudioClip("sound/WIN.wav");
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        // Start loading icons (with scaled images), gifs, sounds and font in the background
+        int size = (int)(dimensions.getWidth()*0.34 * TicTacToeBoard.SIZE / Math.max(boardWidth, boardHeight)); // sets scaled size, found X0.34 was good size for each button scale on a 3x3 board
+        TicTacToeAssets assets = new TicTacToeAssets(size);
 
         // Setup Frame and Display
         frame = new JFrame("Tic Tac Toe");
@@ -127,77 +101,59 @@ public class TicTacToeUI
         statusLabel = new JLabel("  X's Turn");
         leaderboardLabel = new JLabel("Leaderboard - X: 0 | O: 0 | Ties: 0  ");
 
-        // Import and use 'custom' font:
-        try {
-            Font font = Font.createFont(Font.TRUETYPE_FONT, resourceLoader("font/junegull.regular.otf").openStream()).deriveFont(30f);
-            statusLabel.setFont(font);
-            leaderboardLabel.setFont(font);
-        } catch (Exception e){
-            e.printStackTrace();
-        }
-
         // Status Panel for Leaderboard and Move Labels
         StatusPanel = new JPanel(new BorderLayout());
         StatusPanel.add(statusLabel, BorderLayout.WEST);
         StatusPanel.add(leaderboardLabel, BorderLayout.EAST);
 
-        // Layered pane for Board and Animations, allowing animations to play overtop of game board
-        layeredPane = new JLayeredPane();
-        layeredPane.setPreferredSize(new Dimension((int)(frame.getPreferredSize().getWidth()*0.98),
-                (int)(frame.getPreferredSize().getHeight()*0.877)));
+        frame.setJMenuBar(createMenu());
 
-        // Initializes board panel
-        boardPanel = new JPanel(new GridLayout(3, 3));
+        // Initializes board view, which also plays animations overtop of the game board; squares are plain until the icons arrive
         initializeBoard();
-        boardPanel.setSize(layeredPane.getPreferredSize());
-
-        // initializes win animation label and sets hidden
-        winAnimationLabel = new JLabel(Xwin);
-        winAnimationLabel.setLocation(0, 0);
-        winAnimationLabel.setVisible(false);                // Initially invisible
-        winAnimationLabel.setSize(boardPanel.getSize());    // Sets to board panel size to cover entire board
-
-        // Adds board & animation to Layered pane
-        layeredPane.add(boardPanel, JLayeredPane.DEFAULT_LAYER);
-        layeredPane.add(winAnimationLabel, JLayeredPane.PALETTE_LAYER);
 
         // Adds everything to frame and finishes initialization
-        frame.setJMenuBar(createMenu());
-        frame.add(layeredPane, BorderLayout.CENTER);
+        frame.add(boardView, BorderLayout.CENTER);
         frame.add(StatusPanel, BorderLayout.SOUTH);
         frame.pack();
         frame.setLocationRelativeTo(null);
         frame.setResizable(false);
         frame.setVisible(true);
+
+        // The EDT never waits for the assets: they are put in place once they have all loaded
+        assets.whenLoaded(() -> {
+            Xwin = assets.getAnimation("X");
+            Owin = assets.getAnimation("O");
+            Tie = assets.getAnimation("T");
+            mixer = assets.getMixer();
+            boardView.setIcons(assets.getIcon(" "), assets.getIcon("X"), assets.getIcon("O"));
+            TicTacToeMetrics.setStartupTimings(assets.getTimings()); // shown by the debug overlay and over JMX
+
+            // Use 'custom' font:
+            Font font = assets.getFont();
+            if (font != null) {
+                statusLabel.setFont(font);
+                leaderboardLabel.setFont(font);
+                StatusPanel.revalidate();
+            }
+        });
     }
 
     /**
-     * Sets up a 3x3 grid of Tic TacToeButtons for the game board. Each button is linked to the game logic
-     * for moves and updates the game status upon being clicked.
+     * Sets up the board view, sized from the window and drawing the board as last published by the pipeline.
+     * Clicking a square queues a move; the status is updated when the pipeline publishes the result.
      */
     private void initializeBoard(){
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                TicTacToeButton button = new TicTacToeButton(); // Initialize new buttons
-                final int row = i;
-                final int col = j;
-
-                // adds ActionListener to each button, updating status when button is pressed (move is made)
-                button.addActionListener(e -> {
-                    gameLogic.makeMove(row, col);
-                    updateStatus();
-                });
-
-                // adds button to appropriate spot in array and to board panel.
-                buttons[i][j] = button;
-                boardPanel.add(button);
-            }
-        }
+        Dimension size = new Dimension((int)(dimensions.getWidth()*0.98), (int)(dimensions.getHeight()*0.877));
+        boardView = new TicTacToeBoardView(shownGrid, null, null, null, size); // icons are set once loaded
+
+        boardView.setMoveHandler((row, col) -> pipeline.move(row, col));
     }
 
     /**
      * Constructs a menu bar with "Game" menu, offering "New Game" and "Quit" actions with shortcuts Ctrl+N and Ctrl+Q, respectively.
-     * "New Game" resets the board and updates the turn status, while "Quit" exits the app.
+     * "New Game" resets the board, cancelling any computer move being searched, while "Quit" exits the app. "Undo" (Ctrl+Z)
+     * and "Redo" (Ctrl+Y) step back and forward through the moves of the current game. "Play vs Computer" (Ctrl+P) lets
+     * the computer take O. Game commands are queued to the pipeline, so none of them block the EDT.
      *
      * @return Configured JMenuBar.
      */
@@ -206,23 +162,41 @@ public class TicTacToeUI
         JMenuBar menuBar = new JMenuBar();
         JMenu gameMenu = new JMenu("Game");
         JMenuItem newGame = new JMenuItem("New Game");
+        JMenuItem undo = new JMenuItem("Undo");
+        JMenuItem redo = new JMenuItem("Redo");
         JMenuItem quit = new JMenuItem("Quit:");
+        JCheckBoxMenuItem vsComputer = new JCheckBoxMenuItem("Play vs Computer");
+        JCheckBoxMenuItem debugOverlay = new JCheckBoxMenuItem("Debug Overlay");
 
         // Add keyboard shortcuts
         final int SHORTCUT_MASK = Toolkit.getDefaultToolkit().getMenuShortcutKeyMask();
         newGame.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_N, SHORTCUT_MASK)); // ctrl+n
+        undo.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_Z, SHORTCUT_MASK)); // ctrl+z
+        redo.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_Y, SHORTCUT_MASK)); // ctrl+y
         quit.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_Q, SHORTCUT_MASK)); // ctrl+q
+        vsComputer.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_P, SHORTCUT_MASK)); // ctrl+p
+        debugOverlay.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_D, SHORTCUT_MASK)); // ctrl+d
 
-        newGame.addActionListener(e -> {
-            // Logic for when newGame button in menu is pressed
-            gameLogic.clearBoard();
-            statusLabel.setText("  " + gameLogic.getCurrentPlayer() + "'s Turn");
-        });
+        newGame.addActionListener(e -> pipeline.newGame()); // also cancels a computer move being searched
+
+        // Takes back the last move (and the computer's reply); a finished game's result comes off the leaderboard
+        undo.addActionListener(e -> pipeline.undo());
+
+        redo.addActionListener(e -> pipeline.redo());
+
+        // Computer takes O, and starts searching straight away if it is already O's turn
+        vsComputer.addActionListener(e -> pipeline.setComputerPlayer(vsComputer.isSelected() ? "O" : " "));
+
+        debugOverlay.addActionListener(e -> showDebugOverlay(debugOverlay.isSelected()));
 
         quit.addActionListener(e -> System.exit(0)); // Logic to quit program when quit button in menu is pressed
 
         // add all items to menu
         gameMenu.add(newGame);
+        gameMenu.add(undo);
+        gameMenu.add(redo);
+        gameMenu.add(vsComputer);
+        gameMenu.add(debugOverlay);
         gameMenu.add(quit);
         menuBar.add(gameMenu);
 
@@ -230,127 +204,131 @@ public class TicTacToeUI
     }
 
     /**
-     * Updates the leaderboard display with the latest game results. It reflects the counts of wins for X and O,
-     * as well as the number of ties, fetched from the game logic.
+     * Shows or hides the debug overlay over the top of the board. While shown, metrics are recorded and the overlay
+     * refreshes four times a second with the latency of the last move and the number of events waiting on the EDT.
+     * Hovering over it shows how long each phase of loading the assets took at startup.
      *
-     * @param Winner The player who won the latest game or indicates a tie.
+     * @param show true to show the overlay.
      */
-    private void leaderboard(String Winner){
-        int[] results = gameLogic.getLeaderboard();
-        // Updates Leaderboard Label Text
-        leaderboardLabel.setText("Leaderboard - X: " + results[0] + " | O: " + results[1] + " | Ties: " + results[2] + "  ");
-    }
-
-    /**
-     * Updates the game status, including checking for a winner, updating the leaderboard and status label,
-     * and playing relevant sound effects. If a winner is determined, it updates the leaderboard and status label accordingly;
-     * otherwise, it indicates whose turn it is and plays a move sound.
-     */
-    private void updateStatus() {
-        String winner = gameLogic.getWinner(); // Checks for a winner (to end current match) (" " if no winner), otherwise 'X', 'O' or 'T'
-
-        if (!winner.equals(" ")) {
-            // case if there is a winner/match done:
-            leaderboard(winner);
-
-            if (winner.equals("T")) {
-                statusLabel.setText("  Tie Game!");
-            } else {
-                statusLabel.setText("  " + winner + " Wins!");
-            }
+    private void showDebugOverlay(boolean show) {
+        if (debugLabel == null) {
+            debugLabel = new JLabel();
+            debugLabel.setOpaque(true);
+            debugLabel.setBackground(Color.BLACK);
+            debugLabel.setForeground(Color.GREEN);
+            debugLabel.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 13));
+            debugLabel.setBounds(8, 8, 460, 20);
+            frame.getLayeredPane().add(debugLabel, JLayeredPane.POPUP_LAYER); // floats over the board without relayout
+            debugTimer = new Timer(250, e -> debugLabel.setText(String.format(" move %.1f us | p99 %.1f us | AI %.1f us | EDT queue %d",
+                    TicTacToeMetrics.getLastLatency(TicTacToeMetrics.Probe.MOVE) / 1e3,
+                    TicTacToeMetrics.getLatency(TicTacToeMetrics.Probe.MOVE).getPercentile(99) / 1e3,
+                    TicTacToeMetrics.getLastLatency(TicTacToeMetrics.Probe.AI_SEARCH) / 1e3,
+                    TicTacToeMetrics.getEdtQueueDepth())));
+        }
 
+        if (show) {
+            debugLabel.setToolTipText("Startup: " + TicTacToeMetrics.getStartupTimings());
+            TicTacToeMetrics.setEnabled(true);
+            TicTacToeMetrics.installEdtQueueCounter();
+            debugTimer.start();
         } else {
-            // match not complete, game ongoing
-            statusLabel.setText("  " + gameLogic.getCurrentPlayer() + "'s Turn"); // updates text to the current player
-            playSound("MOVE"); // plays move sound
+            TicTacToeMetrics.setEnabled(Boolean.getBoolean("tictactoe.metrics")); // back to how the JVM was started
+            debugTimer.stop();
         }
+        debugLabel.setVisible(show);
     }
 
     /**
-     * Plays a specified sound effect based on game events: "MOVE", "WIN", or "TIE". Ensures the sound starts from the beginning each time.
+     * Shows a snapshot published by the pipeline: redraws the changed squares, updates the status and leaderboard
+     * labels, and plays the effects due since the last frame. The win or tie sound and animation play once, for the
+     * move that ended the game; otherwise a move sound plays if any move was made. Changed totals are queued to be
+     * saved to disk off the EDT.
      *
-     * @param Sound The type of sound effect to play, corresponding to a game move, win, or tie.
+     * @param snapshot The latest state of the game.
      */
-    public static void playSound(String Sound) {
-        if (Sound.equals("MOVE")) {
-            // case for move sounds
-            if (moveSound != null) {
-                moveSound.setFramePosition(0); // sets sound to beginning
-                moveSound.start(); // plays sound
-
-            }
-
-        } else if (Sound.equals("WIN")) {
-            // case for win (both X and O)
-            if (winSound != null) {
-                winSound.setFramePosition(0); // sets sound to beginning
-                winSound.start(); // plays sound
-
-            }
+    private void render(TicTacToePipeline.Snapshot snapshot) {
+        for (int cell = 0; cell < snapshot.getCellCount(); cell++) {
+            if (shownGrid.get(cell) == snapshot.get(cell)) continue;
+            if (snapshot.get(cell) == TicTacToeBoard.EMPTY) shownGrid.remove(cell);
+            else shownGrid.place(cell, snapshot.get(cell));
+        }
+        boardView.sync(); // repaints the squares marked by the player and the computer
+
+        int winner = snapshot.getWinner();
+        if (winner == TicTacToeBoard.TIE) {
+            statusLabel.setText("  Tie Game!");
+        } else if (winner != TicTacToeBoard.EMPTY) {
+            statusLabel.setText("  " + TicTacToeBoard.symbol(winner) + " Wins!");
+        } else if (snapshot.isThinking()) {
+            statusLabel.setText("  " + TicTacToeBoard.symbol(snapshot.getPlayer()) + " is thinking...");
+        } else {
+            statusLabel.setText("  " + TicTacToeBoard.symbol(snapshot.getPlayer()) + "'s Turn"); // updates text to the current player
+        }
 
-        } else if (Sound.equals("TIE")) {
-            // case for tie game sounds
-            if (tieSound != null) {
-                tieSound.setFramePosition(0); // sets sound to beginning
-                tieSound.start(); // plays sound
+        long[] results = snapshot.getScores();
+        leaderboardLabel.setText("Leaderboard - X: " + results[0] + " | O: " + results[1] + " | Ties: " + results[2] + "  ");
+        if (shownScores != null && !Arrays.equals(shownScores, results)) {
+            leaderboardStore.requestSave(pipeline.getScores()); // only a finished or taken back game changes the totals
+        }
+        shownScores = results;
 
-            }
+        if (snapshot.getGameOver() != TicTacToeBoard.EMPTY) {
+            playSound(snapshot.getGameOver() == TicTacToeBoard.TIE ? "TIE" : "WIN");
+            showWinAnimation(TicTacToeBoard.symbol(snapshot.getGameOver()));
+        } else if (snapshot.getMovesPlayed() > 0) {
+            playSound("MOVE");
         }
     }
 
     /**
-     * Retrieves the ImageIcon associated with a specific game symbol: "X", "O", or a blank state for any other input.
+     * Plays a specified sound effect based on game events: "MOVE", "WIN", or "TIE". The sound is handed to the mixer
+     * and plays over any sound still going, so this returns straight away on any thread.
      *
-     * @param icon The string identifier of the icon to retrieve.
-     * @return ImageIcon corresponding to the input identifier.
+     * @param Sound The type of sound effect to play, corresponding to a game move, win, or tie.
      */
-    public static ImageIcon getIcon(String icon) {
-        switch (icon) {
-            case "X":
-                return xIcon;
-            case "O":
-                return oIcon;
-            default:
-                return blankIcon;
-        }
+    public static void playSound(String Sound) {
+        long start = TicTacToeMetrics.start();
+        if (mixer != null) mixer.play(Sound);
+        TicTacToeMetrics.stop(TicTacToeMetrics.Probe.SOUND, start);
     }
 
     /**
      * Displays a win animation for the specified winner ("X" or "O") or a tie animation for any other input.
-     * The animation is shown for approximately 1.85 seconds before being hidden.
+     * The animation is drawn over the board view for approximately 1.85 seconds before being hidden.
      *
      * @param Winner The winning symbol ("X" or "O") or any other value to indicate a tie.
      */
     public static void showWinAnimation(String Winner) {
+        if (boardView == null) return;
+
         // selects appropriate animation depending on winner
         switch (Winner) {
             case "X":
-                winAnimationLabel.setIcon(Xwin);
+                boardView.showAnimation(Xwin);
                 break;
             case "O":
-                winAnimationLabel.setIcon(Owin);
+                boardView.showAnimation(Owin);
                 break;
             default:
-                winAnimationLabel.setIcon(Tie);
+                boardView.showAnimation(Tie);
                 break;
         }
-
-        winAnimationLabel.setVisible(true); // plays animation
-
-        Timer timer = new Timer(1850, e -> winAnimationLabel.setVisible(false)); // shows animation for length of animation (~1.85 seconds)
-        timer.setRepeats(false); // runs only once
-        timer.start();
     }
 
     /**
      * The entry point for the Tic Tac Toe application.
      *
-     * @param args The command line arguments (not used).
+     * @param args Optional board width, height and win length, e.g. "15 15 5" for five in a row. Defaults to 3 3 3.
      */
     public static void main(String[] args) {
+        final int width = args.length > 0 ? Integer.parseInt(args[0]) : TicTacToeBoard.SIZE;
+        final int height = args.length > 1 ? Integer.parseInt(args[1]) : width;
+        final int winLength = args.length > 2 ? Integer.parseInt(args[2]) : Math.min(TicTacToeBoard.SIZE, Math.min(width, height));
+        new TicTacToeGrid(width, height, winLength); // rejects an invalid configuration before any window opens
+
         SwingUtilities.invokeLater(new Runnable() {
             public void run() {
-                new TicTacToeUI();
+                new TicTacToeUI(width, height, winLength);
             }
         });
     }
@@ -0,0 +1,190 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Zobrist hashing for m,n,k boards. Every (square, player) pair has a fixed random 64-bit key and a position's hash is
+ * the XOR of the keys of its marks, so a move updates the hash with a single XOR and undoing it is the same XOR.
+ * Keys come from a splitmix64 sequence seeded by the board size, so they are identical on every run and hashes can be
+ * stored in files such as the opening book.
+ *
+ * Also provides the board's symmetries (8 on square boards, 4 on other rectangles) for hashing positions in a
+ * canonical orientation.
+ *
+ * Instances are immutable, so forSize() hands out one shared instance per board size.
+ *
+ * @author Ethan Ashworth
+ * @version October-16th-2026
+ */
+public class TicTacToeZobrist
+{
+    // Shared instances, keyed by width << 32 | height
+    private static final Map<Long, TicTacToeZobrist> SHARED = new ConcurrentHashMap<>();
+
+    // Class instance variables
+    private final int width;
+    private final int height;
+    private final long[] keys;           // keys[cell * 2 + player - 1]
+    private final int[][] cellMap;       // cellMap[transform][cell] = square the cell moves to
+    private final int[][] cellUnmap;     // inverse of cellMap
+
+    /**
+     * Constructor for the keys of a board size.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     */
+    public TicTacToeZobrist(int width, int height) {
+        this.width = width;
+        this.height = height;
+        int cells = width * height;
+
+        keys = new long[cells * 2];
+        long state = 0x5454545A4F425249L ^ ((long) width << 32 | height); // fixed seed per board size
+        for (int i = 0; i < keys.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            keys[i] = mix(state);
+        }
+
+        // Transform bits: 1 flips top-bottom, 2 flips left-right, 4 swaps rows and columns (square boards only)
+        int transforms = width == height ? 8 : 4;
+        cellMap = new int[transforms][cells];
+        cellUnmap = new int[transforms][cells];
+        for (int t = 0; t < transforms; t++) {
+            for (int cell = 0; cell < cells; cell++) {
+                int r = cell / width;
+                int c = cell % width;
+                if ((t & 1) != 0) r = height - 1 - r;
+                if ((t & 2) != 0) c = width - 1 - c;
+                int mapped = (t & 4) != 0 ? c * width + r : r * width + c;
+                cellMap[t][cell] = mapped;
+                cellUnmap[t][mapped] = cell;
+            }
+        }
+    }
+
+    /**
+     * Returns the shared keys of a board size, creating them the first time.
+     *
+     * @param width Number of columns.
+     * @param height Number of rows.
+     * @return The keys for that size.
+     */
+    public static TicTacToeZobrist forSize(int width, int height) {
+        return SHARED.computeIfAbsent((long) width << 32 | height, size -> new TicTacToeZobrist(width, height));
+    }
+
+    /**
+     * splitmix64 finaliser: scrambles a counter into a well-distributed 64-bit value.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the key of a mark, to XOR into a hash when the mark is placed or removed.
+     *
+     * @param cell The square index.
+     * @param player TicTacToeBoard.X or O.
+     * @return The 64-bit key.
+     */
+    public long key(int cell, int player) {
+        return keys[cell * 2 + player - 1];
+    }
+
+    /**
+     * Computes the hash of a whole board.
+     *
+     * @param grid The board; must have this object's size.
+     * @return The XOR of the keys of every mark.
+     */
+    public long hash(TicTacToeGrid grid) {
+        return hash(grid, 0);
+    }
+
+    /**
+     * Computes the hash the board would have after a symmetry transform.
+     *
+     * @param grid The board; must have this object's size.
+     * @param transform The transform, from 0 (identity) to getTransforms() - 1.
+     * @return The hash of the transformed board.
+     */
+    public long hash(TicTacToeGrid grid, int transform) {
+        int[] map = cellMap[transform];
+        long hash = 0;
+        for (int cell = 0; cell < map.length; cell++) {
+            int player = grid.get(cell);
+            if (player != TicTacToeBoard.EMPTY) hash ^= key(map[cell], player);
+        }
+        return hash;
+    }
+
+    /**
+     * Finds the transform giving the smallest hash, so that symmetric boards all share one canonical hash.
+     *
+     * @param grid The board; must have this object's size.
+     * @return The canonical transform.
+     */
+    public int canonicalTransform(TicTacToeGrid grid) {
+        int best = 0;
+        long bestHash = hash(grid, 0);
+        for (int t = 1; t < cellMap.length; t++) {
+            long hash = hash(grid, t);
+            if (hash < bestHash) {
+                bestHash = hash;
+                best = t;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the number of symmetry transforms of the board.
+     *
+     * @return 8 for a square board, 4 otherwise.
+     */
+    public int getTransforms() {
+        return cellMap.length;
+    }
+
+    /**
+     * Maps a square to where a transform moves it.
+     *
+     * @param transform The transform.
+     * @param cell The square index on the original board.
+     * @return The square index on the transformed board.
+     */
+    public int mapCell(int transform, int cell) {
+        return cellMap[transform][cell];
+    }
+
+    /**
+     * Maps a square on a transformed board back to the original board.
+     *
+     * @param transform The transform.
+     * @param cell The square index on the transformed board.
+     * @return The square index on the original board.
+     */
+    public int unmapCell(int transform, int cell) {
+        return cellUnmap[transform][cell];
+    }
+
+    /**
+     * Returns the board width the keys are for.
+     *
+     * @return Number of columns.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the board height the keys are for.
+     *
+     * @return Number of rows.
+     */
+    public int getHeight() {
+        return height;
+    }
+}